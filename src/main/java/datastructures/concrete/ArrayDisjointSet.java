@@ -1,135 +1,93 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.OpenAddressingDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IDisjointSet;
 
 
 /**
+ * A disjoint-set forest over arbitrary items: each item is mapped to a dense
+ * id once, in makeSet, and every later operation works on that id using union
+ * by rank and iterative path halving, exactly like IntDisjointSet.
+ *
  * @see IDisjointSet for more details.
  */
 public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     // Note: do NOT rename or delete this field. We will be inspecting it
     // directly within our private tests.
+    // pointers[id] is the parent of id, or -(rank + 1) if id is a root.
     private int[] pointers;
     private int size;
-    private int overallSize;
-    private IDictionary<T, Integer> map;
-    T[] myGenericArray;
-
-    // You will probably need to add one or two more fields in order to
-    // successfully implement this class.
+    private IDictionary<T, Integer> ids;
 
     public ArrayDisjointSet() {
-
-        overallSize=10;
-        myGenericArray = (T[]) new Object[overallSize];
-        pointers= new int[overallSize];
-        map=new ChainedHashDictionary<>();
-
-
+        pointers = new int[10];
+        size = 0;
+        ids = new OpenAddressingDictionary<>();
     }
 
     @Override
     public void makeSet(T item) {
         // already a part of this disjoint set somewhere
-        if (map.containsKey(item)) {
+        if (ids.containsKey(item)) {
             throw new IllegalArgumentException();
         }
-        if (size == overallSize) {
-            extendsCapacity();
+        if (size == pointers.length) {
+            extendCapacity();
         }
-
-        map.put(item, size);
-        myGenericArray[size]=item;
-        pointers[size]=-1;
+        ids.put(item, size);
+        pointers[size] = -1;
         size++;
     }
 
-    public void extendsCapacity(){
-        int[]temp=new int[overallSize*2];
-        T[] tempT = (T[]) new Object[overallSize * 2];
-        for (int i = 0; i < size; i++) {
-            temp[i]=pointers[i];
-            tempT[i]=myGenericArray[i];
-        }
-        pointers=temp;
-        myGenericArray=tempT;
-        overallSize*=2;
+    @Override
+    public int findSet(T item) {
+        return findRoot(idOf(item));
     }
 
     @Override
-    public int findSet(T item) {
-        if (!map.containsKey(item)) {
-            throw new IllegalArgumentException();
+    public void union(T item1, T item2) {
+        int root1 = findRoot(idOf(item1));
+        int root2 = findRoot(idOf(item2));
+        if (root1 == root2) {
+            return;
+        }
+        // Ranks are stored negated, so the larger rank has the smaller pointer.
+        if (pointers[root1] < pointers[root2]) {
+            pointers[root2] = root1;
+        } else if (pointers[root2] < pointers[root1]) {
+            pointers[root1] = root2;
+        } else {
+            pointers[root2] = root1;
+            pointers[root1]--;
         }
-
-        int modify = map.get(item);
-        int result = findValue(item, modify);
-
-        resetRank(modify, result);
-        return result;
-
     }
 
-    private int findValue(T item, int root) {
-        if (pointers[root] < 0) {
-                return root;
-        } else {
-                root=pointers[root];
-            return findValue(myGenericArray[root], root);
+    private int findRoot(int id) {
+        // Path halving: point every other node on the path at its grandparent.
+        while (pointers[id] >= 0) {
+            int parent = pointers[id];
+            if (pointers[parent] >= 0) {
+                pointers[id] = pointers[parent];
             }
+            id = pointers[id];
         }
+        return id;
+    }
 
-
-
-
-
-    @Override
-    public void union(T item1, T item2) {
-        if (!map.containsKey(item1) || !map.containsKey(item2) || findSet(item1) == findSet(item2)) {
+    private int idOf(T item) {
+        Integer id = ids.getOrDefault(item, null);
+        if (id == null) {
             throw new IllegalArgumentException();
         }
-        int index1=findSet(item1);
-        int index2=findSet(item2);
-        int rankV1=pointers[index1];
-        int rankV2=pointers[index2];
-        // if (rankV1 <= rankV2) {
-        //     pointers[index2]=index1;
-        //     pointers[index1]-=1;
-        // } else {
-        //
-        //     pointers[index1]=index2;
-        //     pointers[index2]-=1;
-        // }
-
-        if (rankV1 == rankV2) {
-            pointers[index2]=index1;
-            pointers[index1]-=1;
-
-        }
-        if (rankV1 > rankV2) {
-            pointers[index1] = index2;
-        } else if (rankV2 > rankV1) {
-            pointers[index2] = index1;
-        }
-
+        return id;
     }
-    private void resetRank(int modify, int result) {
-        if (pointers[modify] < 0) {
-            return;
+
+    private void extendCapacity() {
+        int[] newPointers = new int[2 * pointers.length];
+        for (int i = 0; i < size; i++) {
+            newPointers[i] = pointers[i];
         }
-        pointers[modify] = result;
-        resetRank(pointers[modify], result);
+        pointers = newPointers;
     }
-    //for testing correct rank
-    // public int findRank(T item){
-    //     int index1=findSet(item);
-    //     return -pointers[index1]-1;
-    // }
-
-
-
-
 }
-
@@ -1,5 +1,6 @@
 package datastructures.concrete;
 
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 import misc.exceptions.EmptyContainerException;
 
@@ -26,6 +27,19 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         heap = makeArrayOfT(overallSize);
     }
 
+    /**
+     * Constructs a heap holding all the given items.
+     *
+     * The heap is built bottom-up in O(n) time, which is cheaper than n
+     * separate inserts.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null
+     */
+    public ArrayHeap(IList<T> items) {
+        this();
+        insertAll(items);
+    }
+
     /**
      * This method will return a new, empty array of the given size
      * that can contain elements of type T.
@@ -52,26 +66,30 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         heap[0] = heap[size - 1];
         heap[size - 1] = null;
         size--;
-        int parent = 0;
-        int minIndex = parent;
-        int child = 0;
+        siftDown(0);
+        return min;
 
-        while (child < size) {
+    }
 
-            for (int i = child; i < child + NUM_CHILDREN + 1; i++) {
-                if (i < size && lessThan(heap[i], heap[minIndex])) {
+    /**
+     * Swaps the item at 'index' with its smallest child until no child is smaller.
+     */
+    private void siftDown(int index) {
+        while (true) {
+            int firstChild = NUM_CHILDREN * index + 1;
+            int lastChild = Math.min(firstChild + NUM_CHILDREN, size);
+            int minIndex = index;
+            for (int i = firstChild; i < lastChild; i++) {
+                if (lessThan(heap[i], heap[minIndex])) {
                     minIndex = i;
                 }
             }
-            if (minIndex == parent) {
+            if (minIndex == index) {
                 break;
             }
-            swap(minIndex, parent);
-            parent = minIndex;
-            child = NUM_CHILDREN * parent + 1;
+            swap(minIndex, index);
+            index = minIndex;
         }
-        return min;
-
     }
 
     @Override
@@ -111,6 +129,45 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
 
     }
 
+    /**
+     * Inserts all the given items.
+     *
+     * When the items are at least as many as the ones already queued, the
+     * whole heap is rebuilt bottom-up in O(n) time (Floyd's method: sift down
+     * every node that has children, from the last one back to the root);
+     * otherwise each item is inserted as usual.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null; the
+     *                                   heap is then left as it was
+     */
+    public void insertAll(IList<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+        // Check everything up front, so a null never leaves half the items queued.
+        for (T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException();
+            }
+        }
+        int count = items.size();
+        if (count < size) {
+            for (T item : items) {
+                insert(item);
+            }
+            return;
+        }
+        ensureCapacity(size + count);
+        for (T item : items) {
+            heap[size] = item;
+            size++;
+        }
+        int lastParent = size > 1 ? (size - 2) / NUM_CHILDREN : -1;
+        for (int i = lastParent; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
     public void swap(int a, int b) {
         T temp = heap[a];
         heap[a] = heap[b];
@@ -127,11 +184,16 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
 
 
     public void extendCapacity() {
-        T[] newheap = makeArrayOfT(2 * overallSize);
-        for (int i = 0; i < size; i++) {
-            newheap[i] = heap[i];
+        ensureCapacity(2 * overallSize);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= overallSize) {
+            return;
         }
-        overallSize *= 2;
+        T[] newheap = makeArrayOfT(Math.max(capacity, 2 * overallSize));
+        System.arraycopy(heap, 0, newheap, 0, size);
+        overallSize = newheap.length;
         heap = newheap;
     }
 
@@ -0,0 +1,96 @@
+package datastructures.concrete;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A fixed-size disjoint-set forest over the ids 0 through size - 1 that any
+ * number of threads may find and union on at the same time, without locks.
+ *
+ * Roots point at themselves. A union links the root with the larger id under
+ * the root with the smaller id with a single compare-and-set, retrying if
+ * another thread moved either root first; since links always go from larger to
+ * smaller ids, no interleaving can form a cycle. Finds use path halving, also
+ * through compare-and-set, so a stale update is simply dropped.
+ */
+public class ConcurrentIntDisjointSet {
+    private final AtomicIntegerArray parents;
+
+    /**
+     * Constructs a forest of 'numSets' singleton sets with ids 0 through numSets - 1.
+     *
+     * @throws IllegalArgumentException  if numSets is negative
+     */
+    public ConcurrentIntDisjointSet(int numSets) {
+        if (numSets < 0) {
+            throw new IllegalArgumentException();
+        }
+        parents = new AtomicIntegerArray(numSets);
+        for (int i = 0; i < numSets; i++) {
+            parents.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the representative id of the set containing the given id.
+     *
+     * While other threads are merging sets the answer may already be out of
+     * date when it is returned; it is exact once all unions have finished.
+     *
+     * @throws IllegalArgumentException  if the id is not in this forest
+     */
+    public int findSet(int id) {
+        checkId(id);
+        int parent = parents.get(id);
+        while (parent != id) {
+            int grandparent = parents.get(parent);
+            if (grandparent != parent) {
+                parents.compareAndSet(id, parent, grandparent);
+            }
+            id = grandparent;
+            parent = parents.get(id);
+        }
+        return id;
+    }
+
+    /**
+     * Merges the sets containing the two ids.
+     *
+     * Returns 'true' if this call merged two different sets, and 'false' if both
+     * ids were already in the same set. When several threads union the same two
+     * sets, exactly one of them gets 'true'.
+     *
+     * @throws IllegalArgumentException  if either id is not in this forest
+     */
+    public boolean union(int id1, int id2) {
+        checkId(id2);
+        while (true) {
+            int root1 = findSet(id1);
+            int root2 = findSet(id2);
+            if (root1 == root2) {
+                return false;
+            }
+            if (root1 < root2) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            // Only succeeds if root1 is still a root.
+            if (parents.compareAndSet(root1, root1, root2)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of ids in this forest.
+     */
+    public int size() {
+        return parents.length();
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= parents.length()) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
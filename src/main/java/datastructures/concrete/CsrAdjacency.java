@@ -0,0 +1,180 @@
+package datastructures.concrete;
+
+/**
+ * An immutable, compressed sparse row (CSR) adjacency structure for an
+ * undirected multigraph over the vertex ids 0 through numVertices - 1 and
+ * the edge ids 0 through numEdges - 1.
+ *
+ * Each edge appears once in the row of each of its endpoints (twice in the
+ * row of its vertex if it is a self-loop). The entries of vertex v occupy
+ * the slots start(v) through end(v) - 1, and each slot records the vertex
+ * on the other side, the edge weight, and the edge id, all in flat primitive
+ * arrays. Iterating over the neighbors of a vertex is therefore a tight loop
+ * over consecutive array slots:
+ *
+ * <pre>
+ * for (int i = adjacency.start(v); i &lt; adjacency.end(v); i++) {
+ *     int neighbor = adjacency.target(i);
+ *     ...
+ * }
+ * </pre>
+ */
+public class CsrAdjacency {
+    private final int numVertices;
+    private final int numEdges;
+
+    // Per-edge data, indexed by edge id.
+    private final int[] edgeVertex1;
+    private final int[] edgeVertex2;
+    private final double[] edgeWeights;
+
+    // Per-slot data; the slots of vertex v are offsets[v] until offsets[v + 1].
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] edgeIds;
+    private final double[] weights;
+
+    /**
+     * Builds the adjacency of the given edges, where edge e connects
+     * edgeVertex1[e] and edgeVertex2[e] and has weight edgeWeights[e].
+     *
+     * The given arrays become part of this object and must not be modified
+     * afterwards. 'edgeWeights' may be null if the caller has no use for weights.
+     *
+     * @throws IllegalArgumentException  if the arrays have different lengths or an
+     *                                   endpoint is not a valid vertex id
+     */
+    public CsrAdjacency(int numVertices, int[] edgeVertex1, int[] edgeVertex2, double[] edgeWeights) {
+        if (numVertices < 0 || edgeVertex1.length != edgeVertex2.length
+                || (edgeWeights != null && edgeWeights.length != edgeVertex1.length)) {
+            throw new IllegalArgumentException();
+        }
+        this.numVertices = numVertices;
+        this.numEdges = edgeVertex1.length;
+        this.edgeVertex1 = edgeVertex1;
+        this.edgeVertex2 = edgeVertex2;
+        this.edgeWeights = edgeWeights;
+
+        // Counting sort of the edge endpoints into rows.
+        offsets = new int[numVertices + 1];
+        for (int e = 0; e < numEdges; e++) {
+            checkVertex(edgeVertex1[e]);
+            checkVertex(edgeVertex2[e]);
+            offsets[edgeVertex1[e] + 1]++;
+            offsets[edgeVertex2[e] + 1]++;
+        }
+        for (int v = 0; v < numVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        targets = new int[2 * numEdges];
+        edgeIds = new int[2 * numEdges];
+        weights = edgeWeights == null ? null : new double[2 * numEdges];
+        int[] next = new int[numVertices];
+        for (int v = 0; v < numVertices; v++) {
+            next[v] = offsets[v];
+        }
+        for (int e = 0; e < numEdges; e++) {
+            addSlot(next[edgeVertex1[e]]++, edgeVertex2[e], e);
+            addSlot(next[edgeVertex2[e]]++, edgeVertex1[e], e);
+        }
+    }
+
+    private void addSlot(int slot, int target, int edge) {
+        targets[slot] = target;
+        edgeIds[slot] = edge;
+        if (weights != null) {
+            weights[slot] = edgeWeights[edge];
+        }
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= numVertices) {
+            throw new IllegalArgumentException("not a vertex id: " + vertex);
+        }
+    }
+
+    /**
+     * Returns the number of vertices.
+     */
+    public int numVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of edges.
+     */
+    public int numEdges() {
+        return numEdges;
+    }
+
+    /**
+     * Returns the first slot belonging to the given vertex.
+     */
+    public int start(int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * Returns one past the last slot belonging to the given vertex.
+     */
+    public int end(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    /**
+     * Returns the number of slots (edge endpoints) belonging to the given vertex.
+     */
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * Returns the vertex on the other side of the edge stored in the given slot.
+     */
+    public int target(int slot) {
+        return targets[slot];
+    }
+
+    /**
+     * Returns the id of the edge stored in the given slot.
+     */
+    public int edgeId(int slot) {
+        return edgeIds[slot];
+    }
+
+    /**
+     * Returns the weight of the edge stored in the given slot.
+     */
+    public double weight(int slot) {
+        return weights[slot];
+    }
+
+    /**
+     * Returns one endpoint of the given edge.
+     */
+    public int edgeVertex1(int edge) {
+        return edgeVertex1[edge];
+    }
+
+    /**
+     * Returns the other endpoint of the given edge.
+     */
+    public int edgeVertex2(int edge) {
+        return edgeVertex2[edge];
+    }
+
+    /**
+     * Returns the weight of the given edge.
+     */
+    public double edgeWeight(int edge) {
+        return edgeWeights[edge];
+    }
+
+    /**
+     * Given one endpoint of an edge, returns the other one.
+     */
+    public int otherVertex(int edge, int vertex) {
+        return edgeVertex1[edge] == vertex ? edgeVertex2[edge] : edgeVertex1[edge];
+    }
+}
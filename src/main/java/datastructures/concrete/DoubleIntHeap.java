@@ -0,0 +1,261 @@
+package datastructures.concrete;
+
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A 4-heap of int values ordered by double keys, meant for graph algorithms
+ * such as Dijkstra and Prim that work on dense vertex or edge ids.
+ *
+ * Keys and values live in parallel primitive arrays, so no objects are
+ * allocated per entry. Values must lie in [0, capacity) and each value may
+ * be queued at most once; a position index over the values lets the heap
+ * support contains in O(1) time, and decreaseKey and remove in O(log n) time.
+ */
+public class DoubleIntHeap {
+    private static final int NUM_CHILDREN = 4;
+
+    private double[] keys;
+    private int[] values;
+    // positions[value] is the heap index of value, or -1 if it is not queued.
+    private int[] positions;
+    private int size;
+
+    /**
+     * Constructs an empty heap that can hold the values 0 through capacity - 1.
+     *
+     * @throws IllegalArgumentException  if capacity is negative
+     */
+    public DoubleIntHeap(int capacity) {
+        this(capacity, capacity);
+    }
+
+    /**
+     * Constructs an empty heap that can hold the values 0 through capacity - 1,
+     * but only reserves room for 'initialSize' queued entries at first.
+     *
+     * Only the position index is sized by capacity; the keys and values grow
+     * by doubling as entries are queued. This suits callers such as Prim's
+     * algorithm whose queue stays much smaller than the range of values.
+     *
+     * @throws IllegalArgumentException  if capacity or initialSize is negative
+     */
+    public DoubleIntHeap(int capacity, int initialSize) {
+        if (capacity < 0 || initialSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        keys = new double[Math.min(capacity, initialSize)];
+        values = new int[keys.length];
+        positions = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            positions[i] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Constructs a heap that holds every value 0 through keys.length - 1, each
+     * with keys[value] as its key.
+     *
+     * The heap is built bottom-up in O(n) time, which is cheaper than n inserts.
+     *
+     * @throws IllegalArgumentException  if keys is null
+     */
+    public DoubleIntHeap(double[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = keys.length;
+        this.keys = new double[capacity];
+        values = new int[capacity];
+        positions = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            place(i, i, keys[i]);
+        }
+        size = capacity;
+        // Sift down every node that has children, from the last one back to the root.
+        int lastParent = size > 1 ? (size - 2) / NUM_CHILDREN : -1;
+        for (int i = lastParent; i >= 0; i--) {
+            siftDown(i, values[i], this.keys[i]);
+        }
+    }
+
+    /**
+     * Inserts the given value with the given key.
+     *
+     * @throws IllegalArgumentException  if the value is out of range or already queued
+     */
+    public void insert(int value, double key) {
+        if (value < 0 || value >= positions.length || positions[value] != -1) {
+            throw new IllegalArgumentException();
+        }
+        if (size == keys.length) {
+            // At most every value can be queued at once.
+            int newLength = (int) Math.min(positions.length, Math.max(1L, 2L * keys.length));
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+        siftUp(size, value, key);
+        size++;
+    }
+
+    /**
+     * Lowers the key of an already queued value.
+     *
+     * @throws NoSuchElementException  if the value is not queued
+     * @throws IllegalArgumentException  if the new key is larger than the current one
+     */
+    public void decreaseKey(int value, double key) {
+        if (!contains(value)) {
+            throw new NoSuchElementException();
+        }
+        int index = positions[value];
+        if (key > keys[index]) {
+            throw new IllegalArgumentException();
+        }
+        siftUp(index, value, key);
+    }
+
+    /**
+     * Removes the given value from the heap, whatever its key.
+     *
+     * @throws NoSuchElementException  if the value is not queued
+     */
+    public void remove(int value) {
+        if (!contains(value)) {
+            throw new NoSuchElementException();
+        }
+        int index = positions[value];
+        positions[value] = -1;
+        size--;
+        if (index < size) {
+            // Fill the hole with the last entry, which may belong above or below it.
+            int lastValue = values[size];
+            double lastKey = keys[size];
+            if (index > 0 && lastKey < keys[(index - 1) / NUM_CHILDREN]) {
+                siftUp(index, lastValue, lastKey);
+            } else {
+                siftDown(index, lastValue, lastKey);
+            }
+        }
+    }
+
+    /**
+     * Returns 'true' if the given value is currently queued.
+     */
+    public boolean contains(int value) {
+        return value >= 0 && value < positions.length && positions[value] != -1;
+    }
+
+    /**
+     * Returns the key of a queued value.
+     *
+     * @throws NoSuchElementException  if the value is not queued
+     */
+    public double keyOf(int value) {
+        if (!contains(value)) {
+            throw new NoSuchElementException();
+        }
+        return keys[positions[value]];
+    }
+
+    /**
+     * Returns, but does not remove, the value with the smallest key.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public int peekMin() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return values[0];
+    }
+
+    /**
+     * Returns the smallest key in the heap.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public double peekMinKey() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns the value with the smallest key.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public int removeMin() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        int min = values[0];
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            siftDown(0, values[size], keys[size]);
+        }
+        return min;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves the hole at 'index' up until (value, key) can be placed there.
+     */
+    private void siftUp(int index, int value, double key) {
+        while (index > 0) {
+            int parent = (index - 1) / NUM_CHILDREN;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(index, values[parent], keys[parent]);
+            index = parent;
+        }
+        place(index, value, key);
+    }
+
+    /**
+     * Moves the hole at 'index' down until (value, key) can be placed there.
+     */
+    private void siftDown(int index, int value, double key) {
+        while (true) {
+            int firstChild = NUM_CHILDREN * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + NUM_CHILDREN, size);
+            int minChild = firstChild;
+            double minKey = keys[firstChild];
+            for (int i = firstChild + 1; i < lastChild; i++) {
+                if (keys[i] < minKey) {
+                    minChild = i;
+                    minKey = keys[i];
+                }
+            }
+            if (minKey >= key) {
+                break;
+            }
+            place(index, values[minChild], minKey);
+            index = minChild;
+        }
+        place(index, value, key);
+    }
+
+    private void place(int index, int value, double key) {
+        keys[index] = key;
+        values[index] = value;
+        positions[value] = index;
+    }
+}
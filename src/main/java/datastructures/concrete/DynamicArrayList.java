@@ -0,0 +1,169 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IList backed by a growable array.
+ *
+ * get, set, and adding or removing at the end take O(1) (amortized) time;
+ * insert and delete shift every later element, so they take O(n) time
+ * except at the end of the list.
+ *
+ * @see datastructures.interfaces.IList
+ */
+public class DynamicArrayList<T> implements IList<T> {
+    private static final int INITIAL_CAPACITY = 10;
+
+    private T[] array;
+    private int size;
+
+    public DynamicArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with room for 'capacity' elements before it
+     * needs to grow.
+     *
+     * @throws IllegalArgumentException  if capacity is negative
+     */
+    public DynamicArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        array = makeArrayOfT(Math.max(capacity, 1));
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @Override
+    public void add(T item) {
+        if (size == array.length) {
+            extendCapacity();
+        }
+        array[size] = item;
+        size++;
+    }
+
+    @Override
+    public T remove() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        size--;
+        T item = array[size];
+        array[size] = null;
+        return item;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size);
+        return array[index];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        checkIndex(index, size);
+        array[index] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        checkIndex(index, size + 1);
+        if (size == array.length) {
+            extendCapacity();
+        }
+        for (int i = size; i > index; i--) {
+            array[i] = array[i - 1];
+        }
+        array[index] = item;
+        size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        checkIndex(index, size);
+        T item = array[index];
+        for (int i = index; i < size - 1; i++) {
+            array[i] = array[i + 1];
+        }
+        size--;
+        array[size] = null;
+        return item;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < size; i++) {
+            if (item == null ? array[i] == null : item.equals(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new DynamicArrayListIterator<>(array, size);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void extendCapacity() {
+        T[] newArray = makeArrayOfT(2 * array.length);
+        for (int i = 0; i < size; i++) {
+            newArray[i] = array[i];
+        }
+        array = newArray;
+    }
+
+    private static class DynamicArrayListIterator<T> implements Iterator<T> {
+        private T[] array;
+        private int size;
+        private int index;
+
+        public DynamicArrayListIterator(T[] array, int size) {
+            this.array = array;
+            this.size = size;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = array[index];
+            index++;
+            return item;
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ArrayDictionary;
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.OpenAddressingDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IEdge;
 import datastructures.interfaces.IList;
-import datastructures.interfaces.IDisjointSet;
-import datastructures.interfaces.IPriorityQueue;
 import datastructures.interfaces.ISet;
 import misc.Sorter;
 import misc.exceptions.NoPathExistsException;
 
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
 /**
  * Represents an undirected, weighted graph, possibly containing self-loops, parallel edges,
  * and unconnected components.
@@ -18,6 +19,11 @@ import misc.exceptions.NoPathExistsException;
  * Note: This class is not meant to be a full-featured way of representing a graph.
  * We stick with supporting just a few, core set of operations needed for the
  * remainder of the project.
+ *
+ * Edge weights are read once, when the graph is constructed. Every query --
+ * the minimum spanning trees (sorted, lazy and Boruvka) and the Dijkstra, A*
+ * and bidirectional shortest paths -- uses those captured weights, so changing
+ * an edge's weight afterwards has no effect on this graph; build a new one.
  */
 public class Graph<V, E extends IEdge<V> & Comparable<E>> {
     // NOTE 1:
@@ -56,12 +62,20 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
     //
     // Working with generics is really not the focus of this class, so if you
     // get stuck, let us know we'll try and help you get unstuck as best as we can.
-    private IDictionary<V, IList<E>> map;
-    private IList<E> edgeList;
-    private IList<V> vertexList;
     private int vertexNum;
     private int edgeNum;
 
+    // Every vertex and edge is mapped to a dense int id once, at construction time,
+    // so the graph algorithms below can work on plain arrays indexed by id.
+    private IDictionary<V, Integer> vertexIds;
+    private V[] vertices;
+    private E[] edges;
+    // Immutable CSR form of the graph, built once from the edge endpoints.
+    private CsrAdjacency adjacency;
+
+    // Number of edge ids each parallel Boruvka task scans at a time.
+    private static final int BORUVKA_CHUNK = 1 << 12;
+
     /**
      * Constructs a new graph based on the given vertices and edges.
      *
@@ -72,27 +86,58 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      */
     public Graph(IList<V> vertices, IList<E> edges) {
         //undirected graph
-        map = new ChainedHashDictionary<>();
-        edgeList = edges;
-        vertexList = vertices;
-        for (V vertice : vertices) {
-            map.put(vertice, new DoubleLinkedList<>());
-            vertexNum++;
+        if (vertices == null || edges == null) {
+            throw new IllegalArgumentException("vertices and edges must not be null");
+        }
+        // A single pass over the vertices builds the hash index that every
+        // membership check below goes through, so construction is O(V + E).
+        vertexIds = new OpenAddressingDictionary<>();
+        this.vertices = makeArrayOfVertices(vertices.size());
+        for (V vertex : vertices) {
+            if (vertex == null) {
+                throw new IllegalArgumentException("vertices contain null");
+            }
+            if (!vertexIds.containsKey(vertex)) {
+                vertexIds.put(vertex, vertexNum);
+                this.vertices[vertexNum] = vertex;
+                vertexNum++;
+            }
         }
+
+        this.edges = makeArrayOfEdges(edges.size());
+        int[] edgeVertex1 = new int[edges.size()];
+        int[] edgeVertex2 = new int[edges.size()];
+        double[] edgeWeights = new double[edges.size()];
         for (E edge : edges) {
+            if (edge == null) {
+                throw new IllegalArgumentException("edges contain null");
+            }
             if ((edge.getWeight() < 0)) {
                 throw new IllegalArgumentException("negative weight");
             }
-            if (!vertices.contains(edge.getVertex1()) || !vertices.contains(edge.getVertex2())) {
+            Integer id1 = vertexIds.getOrDefault(edge.getVertex1(), null);
+            Integer id2 = vertexIds.getOrDefault(edge.getVertex2(), null);
+            if (id1 == null || id2 == null) {
                 throw new IllegalArgumentException("connects to the vertex not in the list");
             }
-            if (vertices.contains(null) || edgeList.contains(null)) {
-                throw new IllegalArgumentException("throw out null exception");
-            }
-            map.get(edge.getVertex1()).add(edge);
-            map.get(edge.getVertex2()).add(edge);
+            this.edges[edgeNum] = edge;
+            edgeVertex1[edgeNum] = id1;
+            edgeVertex2[edgeNum] = id2;
+            edgeWeights[edgeNum] = edge.getWeight();
             edgeNum++;
         }
+        adjacency = new CsrAdjacency(vertexNum, edgeVertex1, edgeVertex2, edgeWeights);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfVertices(int arraySize) {
+        return (V[]) new Object[arraySize];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] makeArrayOfEdges(int arraySize) {
+        // E is erased to its first bound, IEdge, so this cast is safe.
+        return (E[]) new IEdge[arraySize];
     }
 
 
@@ -117,7 +162,7 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
         if (set == null) {
             throw new IllegalArgumentException();
         }
-        IList<T> output = new DoubleLinkedList<>();
+        IList<T> output = new DynamicArrayList<>(set.size());
         for (T item : set) {
             output.add(item);
         }
@@ -147,26 +192,156 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * Precondition: the graph does not contain any unconnected components.
      */
     public ISet<E> findMinimumSpanningTree() {
-        ISet<E> mst = new ChainedHashSet<>();
-        IDisjointSet<V> disjointSet = new ArrayDisjointSet<>();
-        for (V vertex : this.vertexList) {
-            disjointSet.makeSet(vertex);
+        ISet<E> mst = new OpenAddressingSet<>();
+        IntDisjointSet disjointSet = new IntDisjointSet(vertexNum);
+        // Edge ids are radix sorted on their weights, so the sort takes linear time.
+        double[] weights = new double[edgeNum];
+        for (int e = 0; e < edgeNum; e++) {
+            weights[e] = adjacency.edgeWeight(e);
+        }
+        for (int e : Sorter.sortIndicesByKey(weights)) {
+            if (disjointSet.union(adjacency.edgeVertex1(e), adjacency.edgeVertex2(e))) {
+                mst.add(edges[e]);
+                if (mst.size() == vertexNum - 1) {
+                    break;
+                }
+            }
+        }
+        return mst;
+    }
+
+    /**
+     * Returns the same minimum spanning tree as findMinimumSpanningTree, but
+     * without sorting every edge first.
+     *
+     * The edges are put into a heap in O(E) time and popped cheapest first only
+     * until the tree has numVertices() - 1 edges, so the heaviest edges, which
+     * a dense graph rarely needs, are never ordered at all. This takes
+     * O(E + k log E) time when the tree is done after the k cheapest edges.
+     *
+     * Precondition: the graph does not contain any unconnected components.
+     */
+    public ISet<E> findMinimumSpanningTreeLazily() {
+        ISet<E> mst = new OpenAddressingSet<>();
+        IntDisjointSet disjointSet = new IntDisjointSet(vertexNum);
+        double[] weights = new double[edgeNum];
+        for (int e = 0; e < edgeNum; e++) {
+            weights[e] = adjacency.edgeWeight(e);
+        }
+        DoubleIntHeap heap = new DoubleIntHeap(weights);
+        while (mst.size() < vertexNum - 1 && !heap.isEmpty()) {
+            int e = heap.removeMin();
+            if (disjointSet.union(adjacency.edgeVertex1(e), adjacency.edgeVertex2(e))) {
+                mst.add(edges[e]);
+            }
         }
-        for (E edge : Sorter.topKSort(numEdges(), edgeList)) {
-            V a = edge.getVertex1();
-            V b = edge.getVertex2();
-            int root1 = disjointSet.findSet(a);
-            int root2 = disjointSet.findSet(b);
-            if (root1 != root2) {
-                disjointSet.union(a, b);
-                mst.add(edge);
+        return mst;
+    }
+
+    /**
+     * Returns the same kind of minimum spanning tree as findMinimumSpanningTree,
+     * built with Boruvka's algorithm on all available cores.
+     *
+     * Each round finds, in parallel over the edges, the cheapest edge leaving every
+     * component, and then adds all of those edges at once through a concurrent
+     * union-find, which at least halves the number of components. Ties between
+     * equal weights are broken by edge order, so the chosen edges never form a
+     * cycle; when weights are not distinct the tree may differ from the one
+     * findMinimumSpanningTree picks, but it has the same total weight.
+     *
+     * The work runs on the common fork/join pool.
+     *
+     * Precondition: the graph does not contain any unconnected components.
+     */
+    public ISet<E> findMinimumSpanningTreeParallel() {
+        ConcurrentIntDisjointSet components = new ConcurrentIntDisjointSet(vertexNum);
+        // cheapest[root] is the id of the lightest edge seen leaving that component, or -1.
+        AtomicIntegerArray cheapest = new AtomicIntegerArray(vertexNum);
+        for (int v = 0; v < vertexNum; v++) {
+            cheapest.set(v, -1);
+        }
+        boolean[] inTree = new boolean[edgeNum];
+
+        // The edges are split into fixed chunks. Each chunk keeps the ids of its edges
+        // that still join two components packed at its front, so later rounds skip
+        // edges that have become internal.
+        int chunks = (edgeNum + BORUVKA_CHUNK - 1) / BORUVKA_CHUNK;
+        int[] liveEdges = new int[edgeNum];
+        int[] liveCounts = new int[chunks];
+        for (int e = 0; e < edgeNum; e++) {
+            liveEdges[e] = e;
+        }
+        for (int c = 0; c < chunks; c++) {
+            liveCounts[c] = Math.min(BORUVKA_CHUNK, edgeNum - c * BORUVKA_CHUNK);
+        }
+
+        int treeSize = 0;
+        while (treeSize < vertexNum - 1) {
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int base = c * BORUVKA_CHUNK;
+                int kept = 0;
+                for (int i = base, stop = base + liveCounts[c]; i < stop; i++) {
+                    int e = liveEdges[i];
+                    int root1 = components.findSet(adjacency.edgeVertex1(e));
+                    int root2 = components.findSet(adjacency.edgeVertex2(e));
+                    if (root1 != root2) {
+                        liveEdges[base + kept] = e;
+                        kept++;
+                        offerCheapest(cheapest, root1, e);
+                        offerCheapest(cheapest, root2, e);
+                    }
+                }
+                liveCounts[c] = kept;
+            });
+
+            // Two components may pick the same edge; only one union succeeds for it.
+            int added = IntStream.range(0, vertexNum).parallel().map(v -> {
+                int e = cheapest.get(v);
+                if (e == -1) {
+                    return 0;
+                }
+                cheapest.set(v, -1);
+                if (components.union(adjacency.edgeVertex1(e), adjacency.edgeVertex2(e))) {
+                    inTree[e] = true;
+                    return 1;
+                }
+                return 0;
+            }).sum();
+            if (added == 0) {
+                break;
             }
+            treeSize += added;
+        }
 
+        ISet<E> mst = new OpenAddressingSet<>();
+        for (int e = 0; e < edgeNum; e++) {
+            if (inTree[e]) {
+                mst.add(edges[e]);
+            }
         }
         return mst;
     }
 
+    /**
+     * Records edge e as the cheapest edge leaving the given component unless a
+     * lighter one (by weight, then id) is already recorded.
+     */
+    private void offerCheapest(AtomicIntegerArray cheapest, int root, int e) {
+        while (true) {
+            int current = cheapest.get(root);
+            if (current != -1 && !isLighter(e, current)) {
+                return;
+            }
+            if (cheapest.compareAndSet(root, current, e)) {
+                return;
+            }
+        }
+    }
 
+    private boolean isLighter(int e1, int e2) {
+        int cmp = Double.compare(adjacency.edgeWeight(e1), adjacency.edgeWeight(e2));
+        return cmp < 0 || (cmp == 0 && e1 < e2);
+    }
 
     /**
      * Returns the edges that make up the shortest path from the start
@@ -178,92 +353,235 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      *
      * Return an empty list if the start and end vertices are the same.
      *
+     * Runs Dijkstra's algorithm over the dense vertex ids in O((V + E) log V) time;
+     * only the best distance and the edge used to reach each vertex are tracked,
+     * and the path itself is rebuilt once the end vertex is settled.
+     *
      * @throws NoPathExistsException  if there does not exist a path from the start to the end
-     * @throws IllegalArgumentException if start or end is null
+     * @throws IllegalArgumentException if start or end is null, or not a vertex of this graph
      */
-
-
     public IList<E> findShortestPathBetween(V start, V end) {
-
-        if (start.equals(end)) {
-            return new DoubleLinkedList<E>();
-        }
         if (start == null || end == null) {
             throw new IllegalArgumentException();
         }
+        if (start.equals(end)) {
+            return new DynamicArrayList<E>();
+        }
+        int source = vertexId(start);
+        int target = vertexId(end);
 
-        IPriorityQueue<Node> heap = new ArrayHeap<>();
+        return runSearch(new Search(source, null), source, target);
+    }
 
-        IDictionary<V, Node> distance = new ArrayDictionary<>();
+    /**
+     * Returns the same kind of shortest path as findShortestPathBetween, using
+     * A* search guided by the given heuristic.
+     *
+     * heuristic.applyAsDouble(v) must estimate the length of the shortest path
+     * from v to the end without ever overestimating it (for example, the
+     * straight-line distance when edge weights are geometric distances).
+     * Vertices are then explored in order of their distance from the start plus
+     * their estimate, so the search heads toward the end instead of growing
+     * evenly in every direction.
+     *
+     * @throws NoPathExistsException  if there does not exist a path from the start to the end
+     * @throws IllegalArgumentException if start, end, or heuristic is null, or if start or end
+     *                                  is not a vertex of this graph
+     */
+    public IList<E> findShortestPathAStar(V start, V end, ToDoubleFunction<V> heuristic) {
+        if (start == null || end == null || heuristic == null) {
+            throw new IllegalArgumentException();
+        }
+        if (start.equals(end)) {
+            return new DynamicArrayList<E>();
+        }
+        int source = vertexId(start);
+        int target = vertexId(end);
+        return runSearch(new Search(source, heuristic), source, target);
+    }
 
+    /**
+     * Settles vertices until the target leaves the queue, then returns the
+     * path to it.
+     */
+    private IList<E> runSearch(Search search, int source, int target) {
+        while (!search.heap.isEmpty() && search.heap.peekMin() != target) {
+            search.settleNext();
+        }
 
-        for (V vertex : vertexList) {
-            Node vertexInfo = new Node(vertex, Double.POSITIVE_INFINITY, new DoubleLinkedList<E>());
-            distance.put(vertex, vertexInfo);
+        if (search.dist[target] == Double.POSITIVE_INFINITY) {
+            throw new NoPathExistsException();
+        }
+        return buildPath(search.predEdge, source, target);
+    }
 
+    /**
+     * Returns the same kind of shortest path as findShortestPathBetween, but
+     * searches from both ends at once: one Dijkstra search grows outward from
+     * the start and another grows outward from the end, and the search stops
+     * once the two frontiers have met and no shorter connection can remain.
+     *
+     * For point-to-point queries this usually settles far fewer vertices than
+     * a one-sided search, since each side only has to cover about half the
+     * distance.
+     *
+     * @throws NoPathExistsException  if there does not exist a path from the start to the end
+     * @throws IllegalArgumentException if start or end is null, or not a vertex of this graph
+     */
+    public IList<E> findShortestPathBidirectional(V start, V end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException();
         }
-        Node initializer = new Node(start, 0.0, new DoubleLinkedList<E>());
-
-        distance.put(start, initializer);
-        heap.insert(initializer);
-        while (!heap.isEmpty() && heap.peekMin().getVertex() != end) {
-            Node v = heap.removeMin();
-            V vertex = v.getVertex();
-
-            for (E edge : map.get(vertex)) {
-                V otherVertex = edge.getOtherVertex(vertex);
-                IList<E> stored = new DoubleLinkedList<>();
-                for (E e : v.getPath()) {
-                    stored.add(e);
-                }
-                stored.add(edge);
-
-                double newDist = distance.get(vertex).getDistance() + edge.getWeight();
-                double oldDist = distance.get(otherVertex).getDistance();
-                if (newDist < oldDist) {
-                    initializer = new Node(otherVertex, newDist, stored);
-                    heap.insert(initializer);
-                    distance.put(otherVertex, initializer);
+        if (start.equals(end)) {
+            return new DynamicArrayList<E>();
+        }
+        int source = vertexId(start);
+        int target = vertexId(end);
+
+        Search forward = new Search(source, null);
+        Search backward = new Search(target, null);
+        // best is the length of the shortest start-to-end path seen so far,
+        // running through the vertex 'meet'.
+        double best = Double.POSITIVE_INFINITY;
+        int meet = -1;
+        while (!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+            // Any path shorter than 'best' would need a vertex that is still
+            // closer than the top of both queues, and none is left.
+            if (forward.heap.peekMinKey() + backward.heap.peekMinKey() >= best) {
+                break;
+            }
+            Search current = forward.heap.size() <= backward.heap.size() ? forward : backward;
+            int vertex = current.settleNext();
+
+            // Only the settled vertex and its neighbors can have new distances.
+            double through = forward.dist[vertex] + backward.dist[vertex];
+            if (through < best) {
+                best = through;
+                meet = vertex;
+            }
+            for (int i = adjacency.start(vertex), stop = adjacency.end(vertex); i < stop; i++) {
+                int other = adjacency.target(i);
+                through = forward.dist[other] + backward.dist[other];
+                if (through < best) {
+                    best = through;
+                    meet = other;
                 }
             }
         }
 
-
-        if (distance.get(end).getDistance() == Double.POSITIVE_INFINITY) {
-
+        if (meet == -1) {
             throw new NoPathExistsException();
         }
-        return distance.get(end).getPath();
-
+        IList<E> path = buildPath(forward.predEdge, source, meet);
+        appendPredecessors(path, backward.predEdge, meet, target);
+        return path;
     }
 
-    private class Node implements Comparable<Node> {
-        private V vertex;
-        private double distance;
-        private IList<E> path;
-
-        public Node(V vertex, double distance, IList<E> path) {
-            this.vertex = vertex;
-            this.distance = distance;
-            this.path = path;
+    /**
+     * The state of one Dijkstra or A* search over the vertex ids: tentative
+     * distances, the edge each vertex was last reached through, and the queue
+     * of vertices that are labeled but not yet settled.
+     */
+    private class Search {
+        private final double[] dist;
+        private final int[] predEdge;
+        // Each vertex is queued at most once; improvements move its entry forward in place.
+        private final DoubleIntHeap heap;
+        // For A*, the heuristic and its value per vertex (NaN until first needed).
+        private final ToDoubleFunction<V> heuristic;
+        private final double[] estimates;
+
+        /**
+         * Starts a search at the given source; a null heuristic gives plain Dijkstra.
+         */
+        public Search(int source, ToDoubleFunction<V> heuristic) {
+            dist = new double[vertexNum];
+            predEdge = new int[vertexNum];
+            for (int v = 0; v < vertexNum; v++) {
+                dist[v] = Double.POSITIVE_INFINITY;
+                predEdge[v] = -1;
+            }
+            heap = new DoubleIntHeap(vertexNum);
+            this.heuristic = heuristic;
+            if (heuristic != null) {
+                estimates = new double[vertexNum];
+                for (int v = 0; v < vertexNum; v++) {
+                    estimates[v] = Double.NaN;
+                }
+            } else {
+                estimates = null;
+            }
+            dist[source] = 0.0;
+            heap.insert(source, estimate(source));
         }
 
-        public V getVertex() {
-            return this.vertex;
+        /**
+         * Removes the vertex with the smallest queue key, relaxes every edge out
+         * of it, and returns it.
+         */
+        public int settleNext() {
+            int vertex = heap.removeMin();
+            for (int i = adjacency.start(vertex), stop = adjacency.end(vertex); i < stop; i++) {
+                int other = adjacency.target(i);
+                double newDist = dist[vertex] + adjacency.weight(i);
+                if (newDist < dist[other]) {
+                    double key = newDist + estimate(other);
+                    // A vertex can only come back after being settled if the
+                    // heuristic is inconsistent; it is then simply queued again.
+                    if (heap.contains(other)) {
+                        heap.decreaseKey(other, key);
+                    } else {
+                        heap.insert(other, key);
+                    }
+                    dist[other] = newDist;
+                    predEdge[other] = adjacency.edgeId(i);
+                }
+            }
+            return vertex;
         }
 
-        public double getDistance() {
-            return this.distance;
+        private double estimate(int vertex) {
+            if (heuristic == null) {
+                return 0.0;
+            }
+            if (Double.isNaN(estimates[vertex])) {
+                estimates[vertex] = heuristic.applyAsDouble(vertices[vertex]);
+            }
+            return estimates[vertex];
         }
+    }
 
-        public IList<E> getPath() {
-            return this.path;
+    private int vertexId(V vertex) {
+        if (!vertexIds.containsKey(vertex)) {
+            throw new IllegalArgumentException("vertex is not part of this graph");
         }
+        return vertexIds.get(vertex);
+    }
 
-        public int compareTo(Node other) {
-            return (int) (this.distance - other.distance);
+    /**
+     * Walks the predecessor edges back from target to source and returns them
+     * in start-to-end order.
+     */
+    private IList<E> buildPath(int[] predEdge, int source, int target) {
+        IList<E> path = new DynamicArrayList<>();
+        appendPredecessors(path, predEdge, target, source);
+        for (int i = 0, j = path.size() - 1; i < j; i++, j--) {
+            E temp = path.get(i);
+            path.set(i, path.get(j));
+            path.set(j, temp);
         }
-
+        return path;
     }
 
+    /**
+     * Appends the predecessor edges met while walking from 'vertex' back to
+     * the root of the search, in the order they are walked.
+     */
+    private void appendPredecessors(IList<E> path, int[] predEdge, int vertex, int root) {
+        while (vertex != root) {
+            int edge = predEdge[vertex];
+            path.add(edges[edge]);
+            vertex = adjacency.otherVertex(edge, vertex);
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package datastructures.concrete;
+
+/**
+ * A disjoint-set forest over the dense ids 0, 1, 2, ... using union by rank
+ * and iterative path halving.
+ *
+ * Unlike ArrayDisjointSet, items are plain int ids, so callers that already
+ * number their items (such as Graph) never hash anything while merging sets.
+ */
+public class IntDisjointSet {
+    // pointers[id] is the parent of id, or -(rank + 1) if id is a root.
+    private int[] pointers;
+    private int size;
+
+    /**
+     * Constructs an empty forest.
+     */
+    public IntDisjointSet() {
+        this(0);
+    }
+
+    /**
+     * Constructs a forest of 'numSets' singleton sets with ids 0 through numSets - 1.
+     *
+     * @throws IllegalArgumentException  if numSets is negative
+     */
+    public IntDisjointSet(int numSets) {
+        if (numSets < 0) {
+            throw new IllegalArgumentException();
+        }
+        pointers = new int[Math.max(numSets, 10)];
+        for (int i = 0; i < numSets; i++) {
+            pointers[i] = -1;
+        }
+        size = numSets;
+    }
+
+    /**
+     * Adds a new singleton set and returns its id.
+     */
+    public int makeSet() {
+        if (size == pointers.length) {
+            extendCapacity();
+        }
+        pointers[size] = -1;
+        size++;
+        return size - 1;
+    }
+
+    /**
+     * Returns the representative id of the set containing the given id.
+     *
+     * @throws IllegalArgumentException  if the id is not in this forest
+     */
+    public int findSet(int id) {
+        checkId(id);
+        // Path halving: point every other node on the path at its grandparent.
+        while (pointers[id] >= 0) {
+            int parent = pointers[id];
+            if (pointers[parent] >= 0) {
+                pointers[id] = pointers[parent];
+            }
+            id = pointers[id];
+        }
+        return id;
+    }
+
+    /**
+     * Merges the sets containing the two ids.
+     *
+     * Returns 'true' if two different sets were merged, and 'false' if both ids
+     * were already in the same set.
+     *
+     * @throws IllegalArgumentException  if either id is not in this forest
+     */
+    public boolean union(int id1, int id2) {
+        int root1 = findSet(id1);
+        int root2 = findSet(id2);
+        if (root1 == root2) {
+            return false;
+        }
+        // Ranks are stored negated, so the larger rank has the smaller pointer.
+        if (pointers[root1] < pointers[root2]) {
+            pointers[root2] = root1;
+        } else if (pointers[root2] < pointers[root1]) {
+            pointers[root1] = root2;
+        } else {
+            pointers[root2] = root1;
+            pointers[root1]--;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of ids in this forest.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void extendCapacity() {
+        int[] newPointers = new int[2 * pointers.length];
+        for (int i = 0; i < size; i++) {
+            newPointers[i] = pointers[i];
+        }
+        pointers = newPointers;
+    }
+}
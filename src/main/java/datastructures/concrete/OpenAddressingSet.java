@@ -0,0 +1,78 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.OpenAddressingDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.ISet;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash set backed by an OpenAddressingDictionary, so its items live in one
+ * flat array instead of a chain of buckets.
+ *
+ * The maze generators, carvers and Graph build their sets of rooms, walls and
+ * edges with this class; adding a wall is then a probe into an array rather
+ * than a walk over a bucket.
+ *
+ * @see ISet for more details on what each method is supposed to do.
+ */
+public class OpenAddressingSet<T> implements ISet<T> {
+    private IDictionary<T, Boolean> map;
+
+    public OpenAddressingSet() {
+        this.map = new OpenAddressingDictionary<>();
+    }
+
+    @Override
+    public void add(T item) {
+        map.put(item, true);
+    }
+
+    @Override
+    public void remove(T item) {
+        try {
+            map.remove(item);
+        } catch (NoSuchKeyException ex) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return map.containsKey(item);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SetIterator<>(this.map.iterator());
+    }
+
+    private static class SetIterator<T> implements Iterator<T> {
+        private Iterator<KVPair<T, Boolean>> iter;
+
+        public SetIterator(Iterator<KVPair<T, Boolean>> iter) {
+            this.iter = iter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iter.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (iter.hasNext()) {
+                return iter.next().getKey();
+            } else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
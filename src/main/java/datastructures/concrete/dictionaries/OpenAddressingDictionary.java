@@ -0,0 +1,235 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash dictionary that stores its keys and values directly in two flat
+ * arrays and resolves collisions with linear probing.
+ *
+ * The table length is always a power of two and is kept at most half full.
+ * Hash codes are spread before masking so that keys whose hash codes differ
+ * only in their upper bits do not all land in the same run of slots.
+ *
+ * @see IDictionary and the assignment page for more details on what each method should do
+ */
+public class OpenAddressingDictionary<K, V> implements IDictionary<K, V> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // keys[i] == null means slot i is free; values[i] is the value for keys[i].
+    private K[] keys;
+    private V[] values;
+    private int size;
+
+    // The null key cannot live in the table, since null marks a free slot.
+    private boolean hasNullKey;
+    private V nullValue;
+
+    public OpenAddressingDictionary() {
+        keys = makeArrayOfKeys(INITIAL_CAPACITY);
+        values = makeArrayOfValues(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K[] makeArrayOfKeys(int arraySize) {
+        return (K[]) new Object[arraySize];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfValues(int arraySize) {
+        return (V[]) new Object[arraySize];
+    }
+
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            if (!hasNullKey) {
+                throw new NoSuchKeyException();
+            }
+            return nullValue;
+        }
+        int index = find(key);
+        if (keys[index] == null) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            return hasNullKey ? nullValue : defaultValue;
+        }
+        int index = find(key);
+        return keys[index] == null ? defaultValue : values[index];
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (key == null) {
+            if (!hasNullKey) {
+                hasNullKey = true;
+                size++;
+            }
+            nullValue = value;
+            return;
+        }
+        int index = find(key);
+        if (keys[index] == null) {
+            keys[index] = key;
+            size++;
+            values[index] = value;
+            if (2 * size > keys.length) {
+                resize(2 * keys.length);
+            }
+        } else {
+            values[index] = value;
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            if (!hasNullKey) {
+                throw new NoSuchKeyException();
+            }
+            V value = nullValue;
+            hasNullKey = false;
+            nullValue = null;
+            size--;
+            return value;
+        }
+        int index = find(key);
+        if (keys[index] == null) {
+            throw new NoSuchKeyException();
+        }
+        V value = values[index];
+        deleteSlot(index);
+        size--;
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            return hasNullKey;
+        }
+        return keys[find(key)] != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new OpenAddressingIterator<>(keys, values, hasNullKey, nullValue);
+    }
+
+    /**
+     * Returns the slot holding the given key, or the free slot that ends its
+     * probe sequence if the key is absent.
+     */
+    private int find(K key) {
+        int mask = keys.length - 1;
+        int index = spread(key.hashCode()) & mask;
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int spread(int hashCode) {
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Frees the given slot, shifting later entries of the same probe run back
+     * so that no lookup is cut short by the new hole (no tombstones needed).
+     */
+    private void deleteSlot(int hole) {
+        int mask = keys.length - 1;
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            if (keys[index] == null) {
+                break;
+            }
+            int home = spread(keys[index].hashCode()) & mask;
+            // Move the entry into the hole unless its home slot lies
+            // cyclically within (hole, index].
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+        }
+        keys[hole] = null;
+        values[hole] = null;
+    }
+
+    private void resize(int capacity) {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        keys = makeArrayOfKeys(capacity);
+        values = makeArrayOfValues(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = find(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static class OpenAddressingIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private K[] keys;
+        private V[] values;
+        private boolean pendingNullKey;
+        private V nullValue;
+        // index of the next occupied slot, or keys.length once exhausted
+        private int index;
+
+        public OpenAddressingIterator(K[] keys, V[] values, boolean hasNullKey, V nullValue) {
+            this.keys = keys;
+            this.values = values;
+            this.pendingNullKey = hasNullKey;
+            this.nullValue = nullValue;
+            this.index = 0;
+            skipFreeSlots();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pendingNullKey || index < keys.length;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (pendingNullKey) {
+                pendingNullKey = false;
+                return new KVPair<>(null, nullValue);
+            }
+            KVPair<K, V> pair = new KVPair<>(keys[index], values[index]);
+            index++;
+            skipFreeSlots();
+            return pair;
+        }
+
+        private void skipFreeSlots() {
+            while (index < keys.length && keys[index] == null) {
+                index++;
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package mazes.entities;
+
+import datastructures.interfaces.ISet;
+
+import java.awt.*;
+
+/**
+ * Locates rooms with a uniform grid of buckets laid over the rooms' combined
+ * bounding box. Each room is listed in every bucket its own bounding box
+ * overlaps, so a lookup only tests the rooms of the one bucket under the point.
+ *
+ * This works best when rooms are about the same size and spread evenly, as in
+ * the mazes GridGenerator makes: with one bucket per room, a lookup tests only
+ * a handful of polygons.
+ */
+public class BucketGridRoomLocator implements RoomLocator {
+    private final int minX;
+    private final int minY;
+    private final int numColumns;
+    private final int numRows;
+    // Bucket extent in pixels along each axis.
+    private final double bucketWidth;
+    private final double bucketHeight;
+
+    // The rooms of bucket (column, row) are entries[offsets[b]] until
+    // entries[offsets[b + 1]], where b = row * numColumns + column.
+    private final int[] offsets;
+    private final Room[] entries;
+
+    /**
+     * Indexes the given rooms with about one bucket per room.
+     */
+    public BucketGridRoomLocator(ISet<Room> rooms) {
+        this(rooms, sideLength(rooms.size()), sideLength(rooms.size()));
+    }
+
+    private static int sideLength(int numRooms) {
+        return Math.max(1, (int) Math.ceil(Math.sqrt(numRooms)));
+    }
+
+    /**
+     * Indexes the given rooms with a grid of numColumns x numRows buckets.
+     *
+     * @throws IllegalArgumentException  if numColumns or numRows is not positive
+     */
+    public BucketGridRoomLocator(ISet<Room> rooms, int numColumns, int numRows) {
+        if (numColumns <= 0 || numRows <= 0) {
+            throw new IllegalArgumentException();
+        }
+        Room[] roomArray = new Room[rooms.size()];
+        Rectangle[] bounds = new Rectangle[rooms.size()];
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        int i = 0;
+        for (Room room : rooms) {
+            Rectangle box = room.getPolygon().getBounds();
+            roomArray[i] = room;
+            bounds[i] = box;
+            minX = Math.min(minX, box.x);
+            minY = Math.min(minY, box.y);
+            maxX = Math.max(maxX, box.x + box.width);
+            maxY = Math.max(maxY, box.y + box.height);
+            i++;
+        }
+        if (roomArray.length == 0) {
+            minX = 0;
+            minY = 0;
+            maxX = 1;
+            maxY = 1;
+        }
+
+        this.minX = minX;
+        this.minY = minY;
+        this.numColumns = numColumns;
+        this.numRows = numRows;
+        this.bucketWidth = Math.max(1, maxX - minX) / (double) numColumns;
+        this.bucketHeight = Math.max(1, maxY - minY) / (double) numRows;
+
+        // Count the entries of each bucket, then fill them in: a counting sort.
+        offsets = new int[numColumns * numRows + 1];
+        for (Rectangle box : bounds) {
+            for (int row = this.row(box.y); row <= this.row(lastY(box)); row++) {
+                for (int column = this.column(box.x); column <= this.column(lastX(box)); column++) {
+                    offsets[row * numColumns + column + 1]++;
+                }
+            }
+        }
+        for (int b = 1; b < offsets.length; b++) {
+            offsets[b] += offsets[b - 1];
+        }
+        entries = new Room[offsets[offsets.length - 1]];
+        int[] next = new int[numColumns * numRows];
+        System.arraycopy(offsets, 0, next, 0, next.length);
+        for (int r = 0; r < roomArray.length; r++) {
+            Rectangle box = bounds[r];
+            for (int row = this.row(box.y); row <= this.row(lastY(box)); row++) {
+                for (int column = this.column(box.x); column <= this.column(lastX(box)); column++) {
+                    int bucket = row * numColumns + column;
+                    entries[next[bucket]] = roomArray[r];
+                    next[bucket]++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Room locate(Point point) {
+        int bucket = this.row(point.y) * numColumns + this.column(point.x);
+        for (int i = offsets[bucket]; i < offsets[bucket + 1]; i++) {
+            if (entries[i].contains(point)) {
+                return entries[i];
+            }
+        }
+        return null;
+    }
+
+    private int column(int x) {
+        return clamp((int) Math.floor((x - minX) / bucketWidth), numColumns);
+    }
+
+    private int row(int y) {
+        return clamp((int) Math.floor((y - minY) / bucketHeight), numRows);
+    }
+
+    // A polygon only contains points whose coordinates are below x + width and
+    // y + height, so rooms are not listed in buckets they merely touch.
+    private static int lastX(Rectangle box) {
+        return box.x + Math.max(0, box.width - 1);
+    }
+
+    private static int lastY(Rectangle box) {
+        return box.y + Math.max(0, box.height - 1);
+    }
+
+    private static int clamp(int index, int size) {
+        return Math.max(0, Math.min(size - 1, index));
+    }
+}
@@ -0,0 +1,154 @@
+package mazes.entities;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+
+import java.awt.*;
+
+/**
+ * A maze whose rooms are the cells of a rectangular grid, as made by
+ * GridGenerator.
+ *
+ * The grid itself is kept, so the room under a point and the rooms next to a
+ * cell are found with a little arithmetic on the row and column boundaries
+ * instead of by searching.
+ */
+public class GridMaze extends Maze {
+    // grid[column][row]
+    private Room[][] grid;
+    // Column j covers the x coordinates columnStarts[j] until columnStarts[j + 1],
+    // and row i covers the y coordinates rowStarts[i] until rowStarts[i + 1].
+    private int[] columnStarts;
+    private int[] rowStarts;
+
+    /**
+     * Constructs a maze over the given grid of rooms, indexed as grid[column][row].
+     *
+     * Every room's polygon must be the rectangle of its cell: rooms in the same
+     * column share their left and right edges, rooms in the same row share their
+     * top and bottom edges, and neighboring cells touch. 'rooms' must hold
+     * exactly the rooms of the grid.
+     *
+     * @throws IllegalArgumentException  if the grid has no rooms
+     */
+    public GridMaze(Room[][] grid, ISet<Room> rooms, ISet<Wall> walls, ISet<Wall> untouchableWalls) {
+        super(rooms, walls, untouchableWalls);
+        if (grid.length == 0 || grid[0].length == 0) {
+            throw new IllegalArgumentException();
+        }
+        this.grid = grid;
+        int numColumns = grid.length;
+        int numRows = grid[0].length;
+
+        columnStarts = new int[numColumns + 1];
+        for (int column = 0; column < numColumns; column++) {
+            columnStarts[column] = grid[column][0].getPolygon().getBounds().x;
+        }
+        Rectangle last = grid[numColumns - 1][0].getPolygon().getBounds();
+        columnStarts[numColumns] = last.x + last.width;
+
+        rowStarts = new int[numRows + 1];
+        for (int row = 0; row < numRows; row++) {
+            rowStarts[row] = grid[0][row].getPolygon().getBounds().y;
+        }
+        last = grid[0][numRows - 1].getPolygon().getBounds();
+        rowStarts[numRows] = last.y + last.height;
+    }
+
+    private GridMaze(GridMaze other, ISet<Wall> walls) {
+        super(other.getRooms(), walls, other.getUntouchableWalls());
+        this.grid = other.grid;
+        this.columnStarts = other.columnStarts;
+        this.rowStarts = other.rowStarts;
+    }
+
+    @Override
+    public GridMaze withWalls(ISet<Wall> newWalls) {
+        return new GridMaze(this, newWalls);
+    }
+
+    public int numColumns() {
+        return grid.length;
+    }
+
+    public int numRows() {
+        return grid[0].length;
+    }
+
+    /**
+     * Returns the room in the given column and row.
+     *
+     * @throws IndexOutOfBoundsException  if the cell is outside the grid
+     */
+    public Room getRoom(int column, int row) {
+        if (column < 0 || column >= this.numColumns() || row < 0 || row >= this.numRows()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return grid[column][row];
+    }
+
+    /**
+     * Returns the room containing the given point in O(1) time, or 'null' if the
+     * point is outside the grid.
+     */
+    @Override
+    public Room getRoom(Point point) {
+        int column = findCell(columnStarts, point.x);
+        int row = findCell(rowStarts, point.y);
+        if (column == -1 || row == -1) {
+            return null;
+        }
+        return grid[column][row];
+    }
+
+    /**
+     * Returns the rooms sharing a side with the room in the given column and
+     * row: up to four, in the order left, up, right, down. Walls are not taken
+     * into account.
+     *
+     * @throws IndexOutOfBoundsException  if the cell is outside the grid
+     */
+    public IList<Room> getNeighbors(int column, int row) {
+        if (column < 0 || column >= this.numColumns() || row < 0 || row >= this.numRows()) {
+            throw new IndexOutOfBoundsException();
+        }
+        IList<Room> neighbors = new DynamicArrayList<>(4);
+        if (column > 0) {
+            neighbors.add(grid[column - 1][row]);
+        }
+        if (row > 0) {
+            neighbors.add(grid[column][row - 1]);
+        }
+        if (column < this.numColumns() - 1) {
+            neighbors.add(grid[column + 1][row]);
+        }
+        if (row < this.numRows() - 1) {
+            neighbors.add(grid[column][row + 1]);
+        }
+        return neighbors;
+    }
+
+    /**
+     * Returns the cell i with starts[i] <= coordinate < starts[i + 1], or -1.
+     *
+     * Cells are nearly the same size, so dividing by the average size lands
+     * within one cell of the answer; rounding in the boundaries is then fixed
+     * by stepping to the neighboring cell.
+     */
+    private static int findCell(int[] starts, int coordinate) {
+        int numCells = starts.length - 1;
+        if (coordinate < starts[0] || coordinate >= starts[numCells]) {
+            return -1;
+        }
+        long offset = coordinate - starts[0];
+        int cell = (int) (offset * numCells / (starts[numCells] - starts[0]));
+        while (coordinate < starts[cell]) {
+            cell--;
+        }
+        while (coordinate >= starts[cell + 1]) {
+            cell++;
+        }
+        return cell;
+    }
+}
@@ -0,0 +1,212 @@
+package mazes.entities;
+
+/**
+ * A rectangular grid maze stored without any Room or Wall objects.
+ *
+ * The room in row r and column c is the number r * numColumns() + c. Walls are
+ * numbered too: first the walls between horizontally adjacent rooms, row by
+ * row, then the walls between vertically adjacent rooms, row by row. Whether
+ * each wall is still standing is a single bit in a long[], so the whole maze
+ * takes about two bits per room; 100 million rooms fit in 25 MB.
+ *
+ * Every carver can carve it through MazeCarver.generateMaze, and
+ * BreadthFirstMazeSolver can solve it.
+ */
+public class ImplicitGridMaze implements MazeTopology {
+    private final int numRows;
+    private final int numColumns;
+    // Number of walls between horizontally adjacent rooms; their ids come first.
+    private final int numHorizontalWalls;
+    private final int numWalls;
+    // Bit w is set if wall w is standing.
+    private final long[] standing;
+
+    /**
+     * Constructs a grid with the given size where every wall is standing.
+     *
+     * @throws IllegalArgumentException  if numRows or numColumns is not positive,
+     *                                   or if the grid has too many walls to number
+     */
+    public ImplicitGridMaze(int numRows, int numColumns) {
+        if (numRows <= 0 || numColumns <= 0) {
+            throw new IllegalArgumentException();
+        }
+        long horizontal = (long) numRows * (numColumns - 1);
+        long total = horizontal + (long) (numRows - 1) * numColumns;
+        if ((long) numRows * numColumns > Integer.MAX_VALUE || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("grid too large");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.numHorizontalWalls = (int) horizontal;
+        this.numWalls = (int) total;
+        this.standing = new long[(numWalls + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < standing.length; i++) {
+            standing[i] = -1L;
+        }
+    }
+
+    private ImplicitGridMaze(ImplicitGridMaze other) {
+        this.numRows = other.numRows;
+        this.numColumns = other.numColumns;
+        this.numHorizontalWalls = other.numHorizontalWalls;
+        this.numWalls = other.numWalls;
+        this.standing = other.standing.clone();
+    }
+
+    /**
+     * Returns a separate maze with the same walls standing as this one.
+     */
+    public ImplicitGridMaze copy() {
+        return new ImplicitGridMaze(this);
+    }
+
+    public int numRows() {
+        return numRows;
+    }
+
+    public int numColumns() {
+        return numColumns;
+    }
+
+    /**
+     * Returns the id of the room in the given row and column.
+     *
+     * @throws IndexOutOfBoundsException  if the cell is outside the grid
+     */
+    public int room(int row, int column) {
+        if (row < 0 || row >= numRows || column < 0 || column >= numColumns) {
+            throw new IndexOutOfBoundsException();
+        }
+        return row * numColumns + column;
+    }
+
+    public int rowOf(int room) {
+        return room / numColumns;
+    }
+
+    public int columnOf(int room) {
+        return room % numColumns;
+    }
+
+    /**
+     * Returns 'true' if the given wall is still standing.
+     *
+     * @throws IndexOutOfBoundsException  if there is no such wall
+     */
+    public boolean hasWall(int wall) {
+        checkWall(wall);
+        return (standing[wall >>> 6] & (1L << wall)) != 0;
+    }
+
+    /**
+     * Knocks down the given wall, opening a passage between its two rooms.
+     *
+     * @throws IndexOutOfBoundsException  if there is no such wall
+     */
+    public void removeWall(int wall) {
+        checkWall(wall);
+        standing[wall >>> 6] &= ~(1L << wall);
+    }
+
+    @Override
+    public int numRooms() {
+        return numRows * numColumns;
+    }
+
+    @Override
+    public int numWalls() {
+        return numWalls;
+    }
+
+    @Override
+    public int wallRoom1(int wall) {
+        checkWall(wall);
+        if (wall < numHorizontalWalls) {
+            int row = wall / (numColumns - 1);
+            int column = wall % (numColumns - 1);
+            return row * numColumns + column;
+        }
+        // The room above the wall.
+        return wall - numHorizontalWalls;
+    }
+
+    @Override
+    public int wallRoom2(int wall) {
+        checkWall(wall);
+        if (wall < numHorizontalWalls) {
+            int row = wall / (numColumns - 1);
+            int column = wall % (numColumns - 1);
+            return row * numColumns + column + 1;
+        }
+        // The room below the wall.
+        return wall - numHorizontalWalls + numColumns;
+    }
+
+    @Override
+    public int degree(int room) {
+        int row = this.rowOf(room);
+        int column = this.columnOf(room);
+        int degree = 0;
+        if (column > 0) {
+            degree++;
+        }
+        if (row > 0) {
+            degree++;
+        }
+        if (column < numColumns - 1) {
+            degree++;
+        }
+        if (row < numRows - 1) {
+            degree++;
+        }
+        return degree;
+    }
+
+    /**
+     * Returns the i-th wall around the room, counting the walls on its left,
+     * top, right, and bottom sides in that order and skipping sides on the
+     * border of the grid.
+     */
+    @Override
+    public int incidentWall(int room, int i) {
+        int row = this.rowOf(room);
+        int column = this.columnOf(room);
+        if (column > 0) {
+            if (i == 0) {
+                return this.wallRightOf(row, column - 1);
+            }
+            i--;
+        }
+        if (row > 0) {
+            if (i == 0) {
+                return this.wallBelow(room - numColumns);
+            }
+            i--;
+        }
+        if (column < numColumns - 1) {
+            if (i == 0) {
+                return this.wallRightOf(row, column);
+            }
+            i--;
+        }
+        if (row < numRows - 1 && i == 0) {
+            return this.wallBelow(room);
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    private int wallRightOf(int row, int column) {
+        return row * (numColumns - 1) + column;
+    }
+
+    private int wallBelow(int room) {
+        return numHorizontalWalls + room;
+    }
+
+    private void checkWall(int wall) {
+        if (wall < 0 || wall >= numWalls) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package mazes.entities;
+
+import datastructures.interfaces.ISet;
+
+import java.awt.*;
+
+/**
+ * Locates rooms with a k-d tree over their bounding boxes.
+ *
+ * The rooms are split at the median of their centers, alternating between the
+ * x and y axes, into a balanced tree stored implicitly in one array: the node
+ * for the range [lo, hi) is the room at its middle index, with the ranges on
+ * either side as its children. Every node also records the bounding box of all
+ * the rooms below it, so a lookup skips any subtree whose box does not contain
+ * the point, which takes O(log n) time for rooms of similar size.
+ *
+ * Unlike BucketGridRoomLocator this adapts to rooms of very different sizes
+ * and uneven spacing, as in the mazes VoronoiGenerator makes.
+ */
+public class KdTreeRoomLocator implements RoomLocator {
+    private final Room[] rooms;
+    // The bounding box of the subtree rooted at index i is
+    // [minXs[i], maxXs[i]] x [minYs[i], maxYs[i]], inclusive.
+    private final int[] minXs;
+    private final int[] minYs;
+    private final int[] maxXs;
+    private final int[] maxYs;
+
+    /**
+     * Indexes the given rooms.
+     */
+    public KdTreeRoomLocator(ISet<Room> rooms) {
+        int size = rooms.size();
+        this.rooms = new Room[size];
+        int i = 0;
+        for (Room room : rooms) {
+            this.rooms[i] = room;
+            i++;
+        }
+        minXs = new int[size];
+        minYs = new int[size];
+        maxXs = new int[size];
+        maxYs = new int[size];
+        this.build(0, size, true);
+    }
+
+    /**
+     * Arranges rooms[lo, hi) into a subtree split first along x (or y) and
+     * records the bounding boxes of it and its subtrees.
+     */
+    private void build(int lo, int hi, boolean splitOnX) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        this.select(lo, hi, mid, splitOnX);
+        this.build(lo, mid, !splitOnX);
+        this.build(mid + 1, hi, !splitOnX);
+
+        Rectangle box = rooms[mid].getPolygon().getBounds();
+        // A polygon only contains points below x + width and y + height.
+        minXs[mid] = box.x;
+        minYs[mid] = box.y;
+        maxXs[mid] = box.x + box.width - 1;
+        maxYs[mid] = box.y + box.height - 1;
+        this.includeChild(mid, lo, mid);
+        this.includeChild(mid, mid + 1, hi);
+    }
+
+    private void includeChild(int node, int lo, int hi) {
+        if (lo >= hi) {
+            return;
+        }
+        int child = (lo + hi) >>> 1;
+        minXs[node] = Math.min(minXs[node], minXs[child]);
+        minYs[node] = Math.min(minYs[node], minYs[child]);
+        maxXs[node] = Math.max(maxXs[node], maxXs[child]);
+        maxYs[node] = Math.max(maxYs[node], maxYs[child]);
+    }
+
+    /**
+     * Rearranges rooms[lo, hi) so that rooms[index] has the center it would have
+     * if the range were sorted along the given axis, with no larger center before
+     * it and no smaller one after it.
+     */
+    private void select(int lo, int hi, int index, boolean onX) {
+        hi--;
+        while (lo < hi) {
+            int pivot = this.coordinate(rooms[(lo + hi) >>> 1], onX);
+            int left = lo;
+            int right = hi;
+            while (left <= right) {
+                while (this.coordinate(rooms[left], onX) < pivot) {
+                    left++;
+                }
+                while (this.coordinate(rooms[right], onX) > pivot) {
+                    right--;
+                }
+                if (left <= right) {
+                    Room temp = rooms[left];
+                    rooms[left] = rooms[right];
+                    rooms[right] = temp;
+                    left++;
+                    right--;
+                }
+            }
+            if (index <= right) {
+                hi = right;
+            } else if (index >= left) {
+                lo = left;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int coordinate(Room room, boolean onX) {
+        return onX ? room.getCenter().x : room.getCenter().y;
+    }
+
+    @Override
+    public Room locate(Point point) {
+        return this.locate(point, 0, rooms.length);
+    }
+
+    private Room locate(Point point, int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (point.x < minXs[mid] || point.x > maxXs[mid] || point.y < minYs[mid] || point.y > maxYs[mid]) {
+            return null;
+        }
+        if (rooms[mid].contains(point)) {
+            return rooms[mid];
+        }
+        Room found = this.locate(point, lo, mid);
+        if (found == null) {
+            found = this.locate(point, mid + 1, hi);
+        }
+        return found;
+    }
+}
@@ -11,11 +11,31 @@ public class Maze {
     private ISet<Room> rooms;
     private ISet<Wall> walls;
     private ISet<Wall> untouchableWalls;
+    // Built on the first call to getRoom if no locator was given.
+    private volatile RoomLocator locator;
 
     public Maze(ISet<Room> rooms, ISet<Wall> walls, ISet<Wall> untouchableWalls) {
+        this(rooms, walls, untouchableWalls, null);
+    }
+
+    /**
+     * Constructs a maze whose getRoom lookups go through the given locator,
+     * which must index exactly the given rooms. A null locator means a
+     * BucketGridRoomLocator is built when one is first needed.
+     */
+    public Maze(ISet<Room> rooms, ISet<Wall> walls, ISet<Wall> untouchableWalls, RoomLocator locator) {
         this.rooms = rooms;
         this.walls = walls;
         this.untouchableWalls = untouchableWalls;
+        this.locator = locator;
+    }
+
+    /**
+     * Returns a maze with the same rooms, untouchable walls, and room locator
+     * (if this maze has one yet) as this one, but with the given removable walls.
+     */
+    public Maze withWalls(ISet<Wall> newWalls) {
+        return new Maze(this.rooms, newWalls, this.untouchableWalls, this.locator);
     }
 
     /**
@@ -49,11 +69,16 @@ public class Maze {
      * for some reason.
      */
     public Room getRoom(Point point) {
-        for (Room room : this.rooms) {
-            if (room.contains(point)) {
-                return room;
-            }
+        return this.getLocator().locate(point);
+    }
+
+    private RoomLocator getLocator() {
+        RoomLocator result = this.locator;
+        if (result == null) {
+            // Two threads may both build one; either result is fine to keep.
+            result = new BucketGridRoomLocator(this.rooms);
+            this.locator = result;
         }
-        return null;
+        return result;
     }
 }
@@ -0,0 +1,43 @@
+package mazes.entities;
+
+/**
+ * Describes which rooms of a maze each wall separates, with the rooms numbered
+ * 0 through numRooms() - 1 and the walls numbered 0 through numWalls() - 1.
+ *
+ * Carvers and solvers that only need to walk from room to room work on this
+ * view, so they run the same way on mazes made of Room and Wall objects and
+ * on mazes that only exist as numbers, such as ImplicitGridMaze.
+ */
+public interface MazeTopology {
+    int numRooms();
+
+    int numWalls();
+
+    /**
+     * Returns the room on one side of the given wall.
+     */
+    int wallRoom1(int wall);
+
+    /**
+     * Returns the room on the other side of the given wall.
+     */
+    int wallRoom2(int wall);
+
+    /**
+     * Returns the number of walls around the given room.
+     */
+    int degree(int room);
+
+    /**
+     * Returns the i-th wall around the given room, for i from 0 to degree(room) - 1.
+     */
+    int incidentWall(int room, int i);
+
+    /**
+     * Returns the room on the side of the wall opposite the given room.
+     */
+    default int otherRoom(int wall, int room) {
+        int room1 = this.wallRoom1(wall);
+        return room1 == room ? this.wallRoom2(wall) : room1;
+    }
+}
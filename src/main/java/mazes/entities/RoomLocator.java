@@ -0,0 +1,17 @@
+package mazes.entities;
+
+import java.awt.*;
+
+/**
+ * Finds the room of a maze that lies under a given point.
+ *
+ * Implementations index the rooms once, when they are constructed, and must
+ * not be modified afterwards, so a locator can be shared between every maze
+ * that has the same rooms.
+ */
+public interface RoomLocator {
+    /**
+     * Returns a room containing the given point, or 'null' if there is none.
+     */
+    Room locate(Point point);
+}
@@ -1,11 +1,12 @@
 package mazes.generators.base;
 
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
 import datastructures.interfaces.IList;
 import mazes.entities.Maze;
 import mazes.entities.LineSegment;
 
 import java.awt.*;
+import java.util.SplittableRandom;
 
 /**
  * A class responsible for returning an initial maze with walls present between every single room.
@@ -15,12 +16,28 @@ import java.awt.*;
  */
 public abstract class BaseMazeGenerator {
     /**
-     * Generates an initial 'maze'.
+     * Generates an initial 'maze', drawing every random choice from 'rand'.
+     *
+     * The same bounding box and the same seed always give the same maze.
      */
-    public abstract Maze generateBaseMaze(Rectangle boundingBox);
+    public abstract Maze generateBaseMaze(Rectangle boundingBox, SplittableRandom rand);
+
+    /**
+     * Generates an initial 'maze' with a freshly seeded generator.
+     */
+    public Maze generateBaseMaze(Rectangle boundingBox) {
+        return this.generateBaseMaze(boundingBox, new SplittableRandom());
+    }
+
+    /**
+     * Generates an initial 'maze' with a generator seeded with 'seed'.
+     */
+    public Maze generateBaseMaze(Rectangle boundingBox, long seed) {
+        return this.generateBaseMaze(boundingBox, new SplittableRandom(seed));
+    }
 
     protected IList<LineSegment> polygonToLineSegment(Polygon polygon) {
-        IList<LineSegment> output = new DoubleLinkedList<>();
+        IList<LineSegment> output = new DynamicArrayList<>(polygon.npoints);
 
         int[] xs = polygon.xpoints;
         int[] ys = polygon.ypoints;
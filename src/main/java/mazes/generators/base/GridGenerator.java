@@ -1,14 +1,15 @@
 package mazes.generators.base;
 
-import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.OpenAddressingSet;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
-import mazes.entities.Maze;
+import mazes.entities.GridMaze;
 import mazes.entities.Room;
 import mazes.entities.Wall;
 import mazes.entities.LineSegment;
 
 import java.awt.*;
+import java.util.SplittableRandom;
 
 /**
  * Generates a grid-like maze, where every room is a rectangle connected to
@@ -26,12 +27,30 @@ public class GridGenerator extends BaseMazeGenerator {
         this.numColumns = numColumns;
     }
 
-    public Maze generateBaseMaze(Rectangle boundingBox) {
+    /**
+     * Grids involve no randomness, so 'rand' is not used.
+     */
+    @Override
+    public GridMaze generateBaseMaze(Rectangle boundingBox, SplittableRandom rand) {
         Room[][] grid = this.buildRooms(boundingBox);
-        return new Maze(
+        return new GridMaze(
+                grid,
                 this.extractRooms(grid),
                 this.extractWalls(grid),
-                new ChainedHashSet<>());
+                new OpenAddressingSet<>());
+    }
+
+    // The overloads below end up in generateBaseMaze(boundingBox, rand) above,
+    // so their results are always GridMazes.
+
+    @Override
+    public GridMaze generateBaseMaze(Rectangle boundingBox) {
+        return (GridMaze) super.generateBaseMaze(boundingBox);
+    }
+
+    @Override
+    public GridMaze generateBaseMaze(Rectangle boundingBox, long seed) {
+        return (GridMaze) super.generateBaseMaze(boundingBox, seed);
     }
 
     private Room[][] buildRooms(Rectangle boundingBox) {
@@ -64,7 +83,7 @@ public class GridGenerator extends BaseMazeGenerator {
     }
 
     private ISet<Room> extractRooms(Room[][] grid) {
-        ISet<Room> rooms = new ChainedHashSet<>();
+        ISet<Room> rooms = new OpenAddressingSet<>();
         for (int x = 0; x < this.numColumns; x++) {
             for (int y = 0; y < this.numRows; y++) {
                 rooms.add(grid[x][y]);
@@ -74,7 +93,7 @@ public class GridGenerator extends BaseMazeGenerator {
     }
 
     private ISet<Wall> extractWalls(Room[][] grid) {
-        ISet<Wall> walls = new ChainedHashSet<>();
+        ISet<Wall> walls = new OpenAddressingSet<>();
 
         for (int x = 0; x < this.numColumns; x++) {
             for (int y = 0; y < this.numRows; y++) {
@@ -0,0 +1,154 @@
+package mazes.generators.base;
+
+import java.awt.*;
+
+/**
+ * Holds points inside a rectangle and finds the distance from any point to the
+ * nearest of them.
+ *
+ * The rectangle is split into square buckets sized so that, once every
+ * expected point is added, each bucket holds about one. A query searches the
+ * buckets in rings of growing radius around the target and stops as soon as no
+ * unsearched bucket can hold anything closer, so it only looks at the few
+ * buckets near the answer. Each bucket is a linked list threaded through int
+ * arrays, so adding a point takes O(1) time and allocates nothing.
+ */
+class NearestPointGrid {
+    // Points lie in [minX, maxX) x [minY, maxY).
+    private final int minX;
+    private final int minY;
+    private final int maxX;
+    private final int maxY;
+    private final int bucketSize;
+    private final int numColumns;
+    private final int numRows;
+    // head[bucket] is the most recently added point in the bucket, or -1;
+    // next[point] is the point added to the same bucket before it, or -1.
+    private final int[] head;
+    private final int[] next;
+    private final int[] xs;
+    private final int[] ys;
+    private int size;
+
+    /**
+     * Constructs an empty grid over the given rectangle with room for
+     * 'capacity' points.
+     *
+     * @throws IllegalArgumentException  if the rectangle is empty or capacity is negative
+     */
+    public NearestPointGrid(Rectangle bounds, int capacity) {
+        if (bounds.width <= 0 || bounds.height <= 0 || capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.minX = bounds.x;
+        this.minY = bounds.y;
+        this.maxX = bounds.x + bounds.width;
+        this.maxY = bounds.y + bounds.height;
+        double area = (double) bounds.width * bounds.height;
+        this.bucketSize = Math.max(1, (int) Math.sqrt(area / Math.max(1, capacity)));
+        this.numColumns = (bounds.width - 1) / this.bucketSize + 1;
+        this.numRows = (bounds.height - 1) / this.bucketSize + 1;
+
+        this.head = new int[this.numColumns * this.numRows];
+        for (int i = 0; i < this.head.length; i++) {
+            this.head[i] = -1;
+        }
+        this.next = new int[capacity];
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.size = 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds the given point, which must lie inside the rectangle the grid was
+     * constructed with: the search in distanceToNearest relies on every point
+     * lying inside its bucket.
+     *
+     * @throws IllegalArgumentException  if the point is outside the rectangle
+     * @throws IllegalStateException     if the grid already holds 'capacity' points
+     */
+    public void add(Point point) {
+        if (point.x < this.minX || point.x >= this.maxX || point.y < this.minY || point.y >= this.maxY) {
+            throw new IllegalArgumentException("point outside the grid");
+        }
+        if (this.size == this.xs.length) {
+            throw new IllegalStateException("grid is full");
+        }
+        int bucket = this.rowOf(point.y) * this.numColumns + this.columnOf(point.x);
+        this.xs[this.size] = point.x;
+        this.ys[this.size] = point.y;
+        this.next[this.size] = this.head[bucket];
+        this.head[bucket] = this.size;
+        this.size++;
+    }
+
+    /**
+     * Returns the distance from the target to the nearest point in the grid,
+     * or Double.MAX_VALUE if the grid is empty.
+     *
+     * The target may lie anywhere. One outside the rectangle is searched from
+     * the nearest bucket on its border, which is only farther from every point
+     * than that bucket is, so the search still stops correctly.
+     */
+    public double distanceToNearest(Point target) {
+        if (this.size == 0) {
+            return Double.MAX_VALUE;
+        }
+        int column = this.columnOf(target.x);
+        int row = this.rowOf(target.y);
+        int maxRadius = Math.max(
+                Math.max(column, this.numColumns - 1 - column),
+                Math.max(row, this.numRows - 1 - row));
+
+        long best = Long.MAX_VALUE;
+        for (int radius = 0; radius <= maxRadius; radius++) {
+            // Every point in a bucket this ring or farther out is more than
+            // 'reach' away in x or in y, wherever the target lies in its own
+            // bucket, so it cannot beat the best point already found.
+            long reach = (long) (radius - 1) * this.bucketSize;
+            if (radius > 0 && best <= reach * reach) {
+                break;
+            }
+            for (int r = row - radius; r <= row + radius; r++) {
+                if (r < 0 || r >= this.numRows) {
+                    continue;
+                }
+                // Only the ring itself: the left and right ends of middle rows,
+                // and every bucket of the top and bottom rows.
+                int step = (r == row - radius || r == row + radius) ? 1 : 2 * radius;
+                for (int c = column - radius; c <= column + radius; c += step) {
+                    if (c >= 0 && c < this.numColumns) {
+                        best = Math.min(best, this.nearestInBucket(r * this.numColumns + c, target));
+                    }
+                }
+            }
+        }
+        return Math.sqrt(best);
+    }
+
+    private long nearestInBucket(int bucket, Point target) {
+        long best = Long.MAX_VALUE;
+        for (int i = this.head[bucket]; i != -1; i = this.next[i]) {
+            long dx = this.xs[i] - target.x;
+            long dy = this.ys[i] - target.y;
+            best = Math.min(best, dx * dx + dy * dy);
+        }
+        return best;
+    }
+
+    private int columnOf(int x) {
+        return clamp(Math.floorDiv(x - this.minX, this.bucketSize), this.numColumns);
+    }
+
+    private int rowOf(int y) {
+        return clamp(Math.floorDiv(y - this.minY, this.bucketSize), this.numRows);
+    }
+
+    private static int clamp(int index, int length) {
+        return Math.max(0, Math.min(length - 1, index));
+    }
+}
@@ -1,28 +1,31 @@
 package mazes.generators.base;
 
-import datastructures.concrete.ChainedHashSet;
-import datastructures.concrete.DoubleLinkedList;
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.concrete.OpenAddressingSet;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
 import kn.uni.voronoitreemap.datastructure.OpenList;
 import kn.uni.voronoitreemap.diagram.PowerDiagram;
 import kn.uni.voronoitreemap.j2d.PolygonSimple;
 import kn.uni.voronoitreemap.j2d.Site;
+import mazes.entities.KdTreeRoomLocator;
 import mazes.entities.Maze;
 import mazes.entities.Room;
 import mazes.entities.Wall;
 import mazes.entities.LineSegment;
+import misc.Sorter;
 
 import java.awt.*;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Generates a maze where the rooms are randomly distributed across the
  * bounding box. Walls are placed equidistant between two adjacent rooms.
  */
 public class VoronoiGenerator extends BaseMazeGenerator {
+    // Edges are packed as start * numPointKeys + end, which must fit in a long.
+    private static final long MAX_POINT_KEYS = 3037000499L;
+
     private int numRooms;
     private int sampleRate;
     private int minimumWallLength;
@@ -41,7 +44,8 @@ public class VoronoiGenerator extends BaseMazeGenerator {
         this.minimumSpaceFromBoundingBox = minimumSpaceFromBoundingBox;
     }
 
-    public Maze generateBaseMaze(Rectangle boundingBox) {
+    @Override
+    public Maze generateBaseMaze(Rectangle boundingBox, SplittableRandom rand) {
         Rectangle centerBoundingBox = new Rectangle(
                 boundingBox.x + this.minimumSpaceFromBoundingBox,
                 boundingBox.y + this.minimumSpaceFromBoundingBox,
@@ -49,7 +53,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
                 boundingBox.height - 2 * this.minimumSpaceFromBoundingBox);
 
         // Generate initial room locations
-        OpenList sites = this.generateCells(centerBoundingBox);
+        OpenList sites = this.generateCells(centerBoundingBox, rand);
         PolygonSimple boundingPolygon = this.boundingBoxToPolygon(boundingBox);
 
         // Run Voronoi
@@ -59,36 +63,105 @@ public class VoronoiGenerator extends BaseMazeGenerator {
         diagram.computeDiagram();
 
         // Convert sites into rooms
-        ISet<Room> rooms = new ChainedHashSet<>();
-        IDictionary<Point, Room> pointsToSite = new ChainedHashDictionary<>();
+        Room[] roomArray = new Room[this.numRooms];
+        ISet<Room> rooms = new OpenAddressingSet<>();
+        int numRooms = 0;
         for (Site site : sites) {
             Room room = this.siteToRoom(site);
-            pointsToSite.put(room.getCenter(), room);
+            roomArray[numRooms] = room;
             rooms.add(room);
+            numRooms++;
         }
 
         // Convert sites into walls; build edges
-        ISet<Wall> walls = new ChainedHashSet<>();
-        ISet<Wall> untouchableWalls = new ChainedHashSet<>();
-        IDictionary<LineSegment, Point> edgeToPoints = new ChainedHashDictionary<>();
+        ISet<Wall> walls = new OpenAddressingSet<>();
+        ISet<Wall> untouchableWalls = new OpenAddressingSet<>();
+        for (Wall wall : this.findSharedEdges(roomArray, boundingBox)) {
+            if (wall.getDividingLine().length() > this.minimumWallLength) {
+                walls.add(wall);
+            } else {
+                untouchableWalls.add(wall);
+            }
+        }
+
+        return new Maze(rooms, walls, untouchableWalls, new KdTreeRoomLocator(rooms));
+    }
+
+    /**
+     * Returns a wall for every polygon edge that two rooms share.
+     *
+     * Every edge of every polygon is packed into a long holding its two
+     * endpoints, smaller one first, as offsets into the bounding box, and the
+     * edges are radix sorted by that key. Shared edges then sit next to each
+     * other, so no LineSegment or Point is made for an edge that turns out not
+     * to be a wall.
+     *
+     * @throws IllegalArgumentException  if the bounding box is too large for its
+     *                                   edges to fit in a long
+     */
+    private IList<Wall> findSharedEdges(Room[] rooms, Rectangle boundingBox) {
+        // Rounded polygon corners lie on or inside the bounding box.
+        long height = boundingBox.height + 1L;
+        long numPointKeys = (boundingBox.width + 1L) * height;
+        if (numPointKeys > MAX_POINT_KEYS) {
+            throw new IllegalArgumentException("bounding box too large");
+        }
+
+        int numEdges = 0;
         for (Room room : rooms) {
-            Point vertex = room.getCenter();
-            for (LineSegment seg : this.polygonToLineSegment(room.getPolygon())) {
-                if (!edgeToPoints.containsKey(seg)) {
-                    edgeToPoints.put(seg, vertex);
-                } else {
-                    Point otherVertex = edgeToPoints.get(seg);
-                    Wall wall = new Wall(pointsToSite.get(vertex), pointsToSite.get(otherVertex), seg);
-                    if (seg.length() > this.minimumWallLength) {
-                        walls.add(wall);
-                    } else {
-                        untouchableWalls.add(wall);
-                    }
-                }
+            numEdges += room.getPolygon().npoints;
+        }
+        long[] keys = new long[numEdges];
+        int[] edgeRooms = new int[numEdges];
+        int edge = 0;
+        for (int i = 0; i < rooms.length; i++) {
+            Polygon polygon = rooms[i].getPolygon();
+            for (int j = 0; j < polygon.npoints; j++) {
+                int next = (j + 1) % polygon.npoints;
+                long start = this.pointKey(polygon.xpoints[j], polygon.ypoints[j], height, boundingBox);
+                long end = this.pointKey(polygon.xpoints[next], polygon.ypoints[next], height, boundingBox);
+                keys[edge] = Math.min(start, end) * numPointKeys + Math.max(start, end);
+                edgeRooms[edge] = i;
+                edge++;
             }
         }
 
-        return new Maze(rooms, walls, untouchableWalls);
+        IList<Wall> output = new DynamicArrayList<>();
+        int[] order = Sorter.sortIndicesByKey(keys);
+        int runStart = 0;
+        for (int i = 1; i < numEdges; i++) {
+            if (keys[order[i]] != keys[order[runStart]]) {
+                runStart = i;
+                continue;
+            }
+            // Like the first room to list an edge, every later room listing it
+            // gets a wall to the first; a room never gets a wall to itself.
+            Room first = rooms[edgeRooms[order[runStart]]];
+            Room room = rooms[edgeRooms[order[i]]];
+            if (room != first) {
+                long startKey = keys[order[i]] / numPointKeys;
+                long endKey = keys[order[i]] % numPointKeys;
+                LineSegment seg = new LineSegment(
+                        this.pointFromKey(startKey, height, boundingBox),
+                        this.pointFromKey(endKey, height, boundingBox));
+                output.add(new Wall(room, first, seg));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Numbers the points of the bounding box column by column, starting at 0.
+     */
+    private long pointKey(int x, int y, long height, Rectangle boundingBox) {
+        return (x - boundingBox.x) * height + (y - boundingBox.y);
+    }
+
+    /**
+     * Returns the point with the given key; the inverse of pointKey.
+     */
+    private Point pointFromKey(long key, long height, Rectangle boundingBox) {
+        return new Point((int) (key / height) + boundingBox.x, (int) (key % height) + boundingBox.y);
     }
 
     private PolygonSimple boundingBoxToPolygon(Rectangle boundingBox) {
@@ -112,11 +185,10 @@ public class VoronoiGenerator extends BaseMazeGenerator {
         return new Room(center, polygon);
     }
 
-    private OpenList generateCells(Rectangle boundingBox) {
+    private OpenList generateCells(Rectangle boundingBox, SplittableRandom rand) {
         OpenList output = new OpenList();
-        IList<Point> points = new DoubleLinkedList<>();
+        NearestPointGrid points = new NearestPointGrid(boundingBox, this.numRooms);
 
-        Random rand = new Random();
         for (int i = 0; i < this.numRooms; i++) {
             double bestDistance = 0;
             Point bestPoint = null;
@@ -126,7 +198,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
                 int randY = this.nextInt(rand, boundingBox.y, boundingBox.y + boundingBox.height);
                 Point candidate = new Point(randX, randY);
 
-                double distance = this.getClosest(candidate, points);
+                double distance = points.distanceToNearest(candidate);
                 if (distance > bestDistance) {
                     bestDistance = distance;
                     bestPoint = candidate;
@@ -141,19 +213,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
         return output;
     }
 
-    private double getClosest(Point target, IList<Point> coords) {
-        double bestDistance = Double.MAX_VALUE;
-        for (Point point : coords) {
-            double distance = point.distance(target);
-            if (distance < bestDistance) {
-                bestDistance = distance;
-            }
-        }
-
-        return bestDistance;
-    }
-
-    private int nextInt(Random rand, int min, int max) {
-        return rand.nextInt(max - min) + min;
+    private int nextInt(SplittableRandom rand, int min, int max) {
+        return rand.nextInt(min, max);
     }
 }
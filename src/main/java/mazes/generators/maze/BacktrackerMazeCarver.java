@@ -0,0 +1,76 @@
+package mazes.generators.maze;
+
+import mazes.entities.MazeTopology;
+
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Carves out a maze with a randomized depth-first search (the "recursive
+ * backtracker").
+ *
+ * From the current room the search carves into a random neighbor it has not
+ * visited yet and continues from there; when every neighbor has been visited,
+ * it backs up to the previous room. This produces long, winding corridors with
+ * few branches.
+ *
+ * The search keeps its own int stack of room ids and a bitset of visited rooms,
+ * so it never recurses and allocates nothing per room.
+ */
+public class BacktrackerMazeCarver implements MazeCarver {
+    @Override
+    public void carve(MazeTopology topology, SplittableRandom rand, IntConsumer removeWall) {
+        int numRooms = topology.numRooms();
+        if (numRooms == 0) {
+            return;
+        }
+        long[] visited = new long[(numRooms + Long.SIZE - 1) / Long.SIZE];
+        // Each room is pushed at most once, so the stack never outgrows numRooms.
+        int[] stack = new int[numRooms];
+
+        // A maze split into separate regions gets one search per region, starting
+        // with the region of a random room.
+        int first = rand.nextInt(numRooms);
+        for (int i = 0; i < numRooms; i++) {
+            int start = (first + i) % numRooms;
+            if (isVisited(visited, start)) {
+                continue;
+            }
+            markVisited(visited, start);
+            stack[0] = start;
+            int top = 0;
+            while (top >= 0) {
+                int room = stack[top];
+                // Pick a uniformly random unvisited neighbor, if there is one.
+                int chosenWall = -1;
+                int candidates = 0;
+                for (int j = 0; j < topology.degree(room); j++) {
+                    int wall = topology.incidentWall(room, j);
+                    if (!isVisited(visited, topology.otherRoom(wall, room))) {
+                        candidates++;
+                        if (rand.nextInt(candidates) == 0) {
+                            chosenWall = wall;
+                        }
+                    }
+                }
+                if (chosenWall == -1) {
+                    top--;
+                } else {
+                    int next = topology.otherRoom(chosenWall, room);
+                    markVisited(visited, next);
+                    removeWall.accept(chosenWall);
+                    top++;
+                    stack[top] = next;
+                }
+            }
+        }
+    }
+
+    private static boolean isVisited(long[] visited, int room) {
+        return (visited[room >>> 6] & (1L << room)) != 0;
+    }
+
+    private static void markVisited(long[] visited, int room) {
+        visited[room >>> 6] |= 1L << room;
+    }
+}
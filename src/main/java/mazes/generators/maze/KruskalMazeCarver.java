@@ -1,43 +1,41 @@
 package mazes.generators.maze;
 
-import datastructures.concrete.Graph;
-import datastructures.interfaces.ISet;
-import mazes.entities.Maze;
-import mazes.entities.Room;
-import mazes.entities.Wall;
+import datastructures.concrete.IntDisjointSet;
+import mazes.entities.MazeTopology;
+import misc.Sorter;
 
-
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
 
 /**
  * Carves out a maze based on Kruskal's algorithm.
  *
- * See the spec for more details.
+ * Every wall gets a random priority, and the walls are then visited from the
+ * smallest priority to the largest; a wall is removed whenever the rooms on
+ * either side are not yet connected.
+ *
+ * The priorities live in an array indexed by wall id rather than in the walls
+ * themselves, so the input maze is never modified and several threads may
+ * carve the same base maze at once.
  */
 public class KruskalMazeCarver implements MazeCarver {
     @Override
-    public ISet<Wall> returnWallsToRemove(Maze maze) {
-        ISet<Room> vertex=maze.getRooms();
-        ISet<Wall> edge=maze.getWalls();
-        Graph<Room, Wall> graph = new Graph<>(vertex, edge);
-        Random rand=new Random();
-        //assign each wall of differnet wieghts;
-        for (Wall wall : edge) {
-            wall.setDistance(rand.nextInt(100));
-
-        }
-        ISet<Wall> mst = graph.findMinimumSpanningTree();
-        for (Wall wall : edge) {
-            wall.resetDistanceToOriginal();
+    public void carve(MazeTopology topology, SplittableRandom rand, IntConsumer removeWall) {
+        double[] priorities = new double[topology.numWalls()];
+        for (int wall = 0; wall < priorities.length; wall++) {
+            priorities[wall] = rand.nextDouble();
         }
-        // ISet<Wall> mst = graph.findMinimumSpanningTree();
-        return mst;
-
-        // Note: make sure that the input maze remains unmodified after this method is over.
-        //
-        // In particular, if you call 'wall.setDistance()' at any point, make sure to
-        // call 'wall.resetDistanceToOriginal()' on the same wall before returning.
-
 
+        IntDisjointSet regions = new IntDisjointSet(topology.numRooms());
+        int removed = 0;
+        for (int wall : Sorter.sortIndicesByKey(priorities)) {
+            if (regions.union(topology.wallRoom1(wall), topology.wallRoom2(wall))) {
+                removeWall.accept(wall);
+                removed++;
+                if (removed == topology.numRooms() - 1) {
+                    break;
+                }
+            }
+        }
     }
 }
@@ -1,42 +1,96 @@
 package mazes.generators.maze;
 
-import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.OpenAddressingSet;
 import datastructures.interfaces.ISet;
+import mazes.entities.ImplicitGridMaze;
 import mazes.entities.Maze;
+import mazes.entities.MazeTopology;
 import mazes.entities.Wall;
 
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
 /**
  * Represents a class that accepts some initial maze created by a BaseMazeGenerator,
  * and returns a list of every single wall that should be removed.
  */
 public interface MazeCarver {
+    /**
+     * Accepts the topology of a "maze" where there exists a wall between every
+     * single room, and passes the id of every wall that should be removed to
+     * form an actually valid maze to 'removeWall', once each.
+     *
+     * Every random choice is drawn from 'rand', so the same topology and the
+     * same seed always give the same walls. Implementations must not modify
+     * anything but their own state, so several threads may carve one maze at
+     * once, each with its own generator (see SplittableRandom.split).
+     */
+    public void carve(MazeTopology topology, SplittableRandom rand, IntConsumer removeWall);
+
     /**
      * Accepts a "maze" where there exists a wall between every single room.
      *
      * Returns a list of every single wall that should be removed to form an
      * actually valid maze.
      */
-    public ISet<Wall> returnWallsToRemove(Maze maze);
+    public default ISet<Wall> returnWallsToRemove(Maze maze, SplittableRandom rand) {
+        MazeIndex index = new MazeIndex(maze);
+        ISet<Wall> toRemove = new OpenAddressingSet<>();
+        this.carve(index, rand, wall -> toRemove.add(index.wall(wall)));
+        return toRemove;
+    }
+
+    /**
+     * Same as returnWallsToRemove(maze, rand), with a freshly seeded generator.
+     */
+    public default ISet<Wall> returnWallsToRemove(Maze maze) {
+        return this.returnWallsToRemove(maze, new SplittableRandom());
+    }
+
+    /**
+     * Same as generateMaze(initialMaze, rand), with a freshly seeded generator.
+     */
+    public default Maze generateMaze(Maze initialMaze) {
+        return this.generateMaze(initialMaze, new SplittableRandom());
+    }
+
+    /**
+     * Same as generateMaze(initialMaze, rand), with a generator seeded with 'seed',
+     * so carving the same maze with the same seed always gives the same result.
+     */
+    public default Maze generateMaze(Maze initialMaze, long seed) {
+        return this.generateMaze(initialMaze, new SplittableRandom(seed));
+    }
 
     /**
      * Exists a "maze" where there exists a wall between every single room,
      * and returns a new maze that's actually solvable/contains paths
      * between rooms.
      */
-    public default Maze generateMaze(Maze initialMaze) {
+    public default Maze generateMaze(Maze initialMaze, SplittableRandom rand) {
         // Note: this method is already implemented for you. You do not
         // need to modify it (though you should make sure you understand
         // what it's doing).
 
-        ISet<Wall> toRemove = this.returnWallsToRemove(initialMaze);
+        ISet<Wall> toRemove = this.returnWallsToRemove(initialMaze, rand);
 
-        ISet<Wall> newWalls = new ChainedHashSet<>();
+        ISet<Wall> newWalls = new OpenAddressingSet<>();
         for (Wall wall : initialMaze.getWalls()) {
             if (!toRemove.contains(wall)) {
                 newWalls.add(wall);
             }
         }
 
-        return new Maze(initialMaze.getRooms(), newWalls, initialMaze.getUntouchableWalls());
+        return initialMaze.withWalls(newWalls);
+    }
+
+    /**
+     * Accepts an implicit grid where every wall is standing, and returns a
+     * carved copy of it. The initial maze is not modified.
+     */
+    public default ImplicitGridMaze generateMaze(ImplicitGridMaze initialMaze, SplittableRandom rand) {
+        ImplicitGridMaze carved = initialMaze.copy();
+        this.carve(initialMaze, rand, carved::removeWall);
+        return carved;
     }
 }
@@ -0,0 +1,95 @@
+package mazes.generators.maze;
+
+import datastructures.concrete.CsrAdjacency;
+import datastructures.concrete.dictionaries.OpenAddressingDictionary;
+import datastructures.interfaces.IDictionary;
+import mazes.entities.Maze;
+import mazes.entities.MazeTopology;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+
+/**
+ * Numbers the rooms and removable walls of a maze with dense int ids and
+ * stores which rooms each wall connects in a CsrAdjacency, where the edge id
+ * of a wall is its wall id.
+ *
+ * This is the MazeTopology that carvers walk when they carve a Maze, instead
+ * of a full Graph: it holds no weights and never touches the walls' distances.
+ */
+class MazeIndex implements MazeTopology {
+    private final Room[] rooms;
+    private final Wall[] walls;
+    private final CsrAdjacency adjacency;
+
+    /**
+     * Indexes the rooms and the removable walls of the given maze.
+     *
+     * @throws IllegalArgumentException  if a wall touches a room that is not in the maze
+     */
+    public MazeIndex(Maze maze) {
+        IDictionary<Room, Integer> roomIds = new OpenAddressingDictionary<>();
+        rooms = new Room[maze.getRooms().size()];
+        int numRooms = 0;
+        for (Room room : maze.getRooms()) {
+            roomIds.put(room, numRooms);
+            rooms[numRooms] = room;
+            numRooms++;
+        }
+
+        int numWalls = maze.getWalls().size();
+        walls = new Wall[numWalls];
+        int[] wallRoom1 = new int[numWalls];
+        int[] wallRoom2 = new int[numWalls];
+        int id = 0;
+        for (Wall wall : maze.getWalls()) {
+            Integer room1 = roomIds.getOrDefault(wall.getRoom1(), null);
+            Integer room2 = roomIds.getOrDefault(wall.getRoom2(), null);
+            if (room1 == null || room2 == null) {
+                throw new IllegalArgumentException("wall touches a room not in the maze");
+            }
+            walls[id] = wall;
+            wallRoom1[id] = room1;
+            wallRoom2[id] = room2;
+            id++;
+        }
+        adjacency = new CsrAdjacency(numRooms, wallRoom1, wallRoom2, null);
+    }
+
+    @Override
+    public int numRooms() {
+        return rooms.length;
+    }
+
+    @Override
+    public int numWalls() {
+        return walls.length;
+    }
+
+    @Override
+    public int wallRoom1(int wall) {
+        return adjacency.edgeVertex1(wall);
+    }
+
+    @Override
+    public int wallRoom2(int wall) {
+        return adjacency.edgeVertex2(wall);
+    }
+
+    @Override
+    public int degree(int room) {
+        return adjacency.degree(room);
+    }
+
+    @Override
+    public int incidentWall(int room, int i) {
+        return adjacency.edgeId(adjacency.start(room) + i);
+    }
+
+    public Room room(int id) {
+        return rooms[id];
+    }
+
+    public Wall wall(int id) {
+        return walls[id];
+    }
+}
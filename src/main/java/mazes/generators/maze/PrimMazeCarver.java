@@ -0,0 +1,70 @@
+package mazes.generators.maze;
+
+import datastructures.concrete.DoubleIntHeap;
+import mazes.entities.MazeTopology;
+
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Carves out a maze based on (randomized) Prim's algorithm.
+ *
+ * The maze grows outward from a random room. Every wall between a carved room
+ * and an uncarved one sits in a frontier heap under a random priority; the wall
+ * with the smallest priority is removed next, carving the room behind it. Only
+ * walls on the frontier are ever queued, and no wall's distance is changed.
+ *
+ * Compared to Kruskal's algorithm, which joins corridors all over the maze at
+ * once, this produces mazes with many short dead ends branching off paths that
+ * radiate from the starting room.
+ */
+public class PrimMazeCarver implements MazeCarver {
+    @Override
+    public void carve(MazeTopology topology, SplittableRandom rand, IntConsumer removeWall) {
+        int numRooms = topology.numRooms();
+        if (numRooms == 0) {
+            return;
+        }
+        boolean[] carved = new boolean[numRooms];
+        // The frontier only ever holds a fraction of the walls, so the heap starts
+        // with room for about sqrt(walls) entries and grows as needed; only its
+        // position index is sized by numWalls.
+        int numWalls = topology.numWalls();
+        DoubleIntHeap frontier = new DoubleIntHeap(numWalls, (int) Math.sqrt(numWalls) + 1);
+
+        // A maze split into separate regions gets one tree per region, starting
+        // with the region of a random room.
+        int first = rand.nextInt(numRooms);
+        for (int i = 0; i < numRooms; i++) {
+            int start = (first + i) % numRooms;
+            if (carved[start]) {
+                continue;
+            }
+            this.carveRoom(start, topology, carved, frontier, rand);
+            while (!frontier.isEmpty()) {
+                int wall = frontier.removeMin();
+                int room1 = topology.wallRoom1(wall);
+                int room2 = topology.wallRoom2(wall);
+                // Both sides may have been carved since the wall was queued.
+                if (!carved[room1] || !carved[room2]) {
+                    removeWall.accept(wall);
+                    this.carveRoom(carved[room1] ? room2 : room1, topology, carved, frontier, rand);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the room as carved and queues every wall from it to an uncarved room.
+     */
+    private void carveRoom(int room, MazeTopology topology, boolean[] carved,
+                           DoubleIntHeap frontier, SplittableRandom rand) {
+        carved[room] = true;
+        for (int i = 0; i < topology.degree(room); i++) {
+            int wall = topology.incidentWall(room, i);
+            if (!carved[topology.otherRoom(wall, room)] && !frontier.contains(wall)) {
+                frontier.insert(wall, rand.nextDouble());
+            }
+        }
+    }
+}
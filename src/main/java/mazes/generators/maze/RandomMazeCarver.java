@@ -1,11 +1,9 @@
 package mazes.generators.maze;
 
-import datastructures.concrete.ChainedHashSet;
-import datastructures.interfaces.ISet;
-import mazes.entities.Maze;
-import mazes.entities.Wall;
+import mazes.entities.MazeTopology;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
 
 /**
  * Randomly removes edges with a certain percent probability
@@ -18,15 +16,11 @@ public class RandomMazeCarver implements MazeCarver {
     }
 
     @Override
-    public ISet<Wall> returnWallsToRemove(Maze maze) {
-        Random rand = new Random();
-
-        ISet<Wall> toRemove = new ChainedHashSet<>();
-        for (Wall wall : maze.getWalls()) {
+    public void carve(MazeTopology topology, SplittableRandom rand, IntConsumer removeWall) {
+        for (int wall = 0; wall < topology.numWalls(); wall++) {
             if (rand.nextDouble() >= this.probabilityOfKeepingEdge) {
-                toRemove.add(wall);
+                removeWall.accept(wall);
             }
         }
-        return toRemove;
     }
 }
@@ -0,0 +1,80 @@
+package mazes.generators.maze;
+
+import datastructures.concrete.IntDisjointSet;
+import mazes.entities.MazeTopology;
+
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Carves out a maze using Wilson's algorithm, which picks each possible maze
+ * (spanning tree) with exactly the same probability.
+ *
+ * The maze starts as a single random room. From every room not yet in the
+ * maze, a random walk wanders until it reaches the maze; any loop the walk
+ * makes is erased, and the remaining path is then carved. Only the last wall
+ * each room was left through is remembered during a walk, so erasing loops
+ * costs nothing extra.
+ *
+ * Unlike Kruskal's or Prim's algorithm this has no bias toward short or long
+ * dead ends, at the price of walks that can take a while to hit the maze when
+ * it is still small.
+ */
+public class WilsonMazeCarver implements MazeCarver {
+    @Override
+    public void carve(MazeTopology topology, SplittableRandom rand, IntConsumer removeWall) {
+        int numRooms = topology.numRooms();
+        boolean[] inMaze = new boolean[numRooms];
+        this.addRandomRoots(topology, inMaze, rand);
+
+        // exitWall[room] is the wall the current walk last left that room through.
+        int[] exitWall = new int[numRooms];
+        for (int start = 0; start < numRooms; start++) {
+            int room = start;
+            while (!inMaze[room]) {
+                int wall = topology.incidentWall(room, rand.nextInt(topology.degree(room)));
+                exitWall[room] = wall;
+                room = topology.otherRoom(wall, room);
+            }
+
+            // Following the last exits from the start retraces the walk with
+            // every loop erased.
+            room = start;
+            while (!inMaze[room]) {
+                inMaze[room] = true;
+                int wall = exitWall[room];
+                removeWall.accept(wall);
+                room = topology.otherRoom(wall, room);
+            }
+        }
+    }
+
+    /**
+     * Puts one random room of every connected region into the maze, so that a
+     * walk always has something to reach, even in a maze split into regions
+     * or containing rooms without walls.
+     */
+    private void addRandomRoots(MazeTopology topology, boolean[] inMaze, SplittableRandom rand) {
+        int numRooms = topology.numRooms();
+        IntDisjointSet regions = new IntDisjointSet(numRooms);
+        for (int wall = 0; wall < topology.numWalls(); wall++) {
+            regions.union(topology.wallRoom1(wall), topology.wallRoom2(wall));
+        }
+        // Reservoir sampling: the i-th room seen in a region replaces that
+        // region's root with probability 1 / i.
+        int[] roots = new int[numRooms];
+        int[] seen = new int[numRooms];
+        for (int room = 0; room < numRooms; room++) {
+            int region = regions.findSet(room);
+            seen[region]++;
+            if (rand.nextInt(seen[region]) == 0) {
+                roots[region] = room;
+            }
+        }
+        for (int region = 0; region < numRooms; region++) {
+            if (seen[region] > 0) {
+                inMaze[roots[region]] = true;
+            }
+        }
+    }
+}
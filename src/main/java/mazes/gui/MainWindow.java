@@ -2,16 +2,26 @@ package mazes.gui;
 
 import datastructures.concrete.dictionaries.ArrayDictionary;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.ISet;
+import mazes.entities.Room;
+import mazes.entities.Wall;
 import mazes.generators.base.BaseMazeGenerator;
 import mazes.generators.base.GridGenerator;
 import mazes.generators.base.VoronoiGenerator;
+import mazes.generators.maze.BacktrackerMazeCarver;
 import mazes.generators.maze.KruskalMazeCarver;
 import mazes.generators.maze.MazeCarver;
+import mazes.generators.maze.PrimMazeCarver;
 import mazes.generators.maze.RandomMazeCarver;
+import mazes.generators.maze.WilsonMazeCarver;
+import mazes.solvers.AStarMazeSolver;
+import mazes.solvers.BidirectionalMazeSolver;
+import mazes.solvers.MazeSolver;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.function.BiFunction;
 
 /**
  * The main entry point of the user interface.
@@ -64,6 +74,26 @@ public class MainWindow extends JFrame {
         baseCarvers.put(
                 "Run (randomized) Kruskal",
                 new KruskalMazeCarver());
+        baseCarvers.put(
+                "Run (randomized) Prim",
+                new PrimMazeCarver());
+        baseCarvers.put(
+                "Run Wilson's algorithm (uniform random maze)",
+                new WilsonMazeCarver());
+        baseCarvers.put(
+                "Run recursive backtracker (long corridors)",
+                new BacktrackerMazeCarver());
+
+        // This dictionary contains the ways of finding the shortest path through
+        // a carved maze. Each entry builds a solver from the maze's rooms and the
+        // walls that were removed (the passages).
+        IDictionary<String, BiFunction<ISet<Room>, ISet<Wall>, MazeSolver>> solvers = new ArrayDictionary<>();
+        solvers.put(
+                "A* search",
+                AStarMazeSolver::new);
+        solvers.put(
+                "Bidirectional Dijkstra",
+                BidirectionalMazeSolver::new);
 
         // This actually launches the window itself and starts the program.
         EventQueue.invokeLater(() -> {
@@ -72,7 +102,8 @@ public class MainWindow extends JFrame {
                     DEFAULT_WIDTH,
                     DEFAULT_HEIGHT,
                     baseGenerators,
-                    baseCarvers);
+                    baseCarvers,
+                    solvers);
             window.construct();
         });
     }
@@ -84,22 +115,26 @@ public class MainWindow extends JFrame {
 
     private IDictionary<String, BaseMazeGenerator> baseGenerators;
     private IDictionary<String, MazeCarver> baseCarvers;
+    private IDictionary<String, BiFunction<ISet<Room>, ISet<Wall>, MazeSolver>> solvers;
 
     public MainWindow(String title, int width, int height, 
                 IDictionary<String, BaseMazeGenerator> baseGenerators, 
-                IDictionary<String, MazeCarver> baseCarvers) {
+                IDictionary<String, MazeCarver> baseCarvers,
+                IDictionary<String, BiFunction<ISet<Room>, ISet<Wall>, MazeSolver>> solvers) {
         this.title = title;
         this.width = width;
         this.height = height;
         this.baseGenerators = baseGenerators;
         this.baseCarvers = baseCarvers;
+        this.solvers = solvers;
     }
 
     public void construct() {
         this.setupMainWindow();
 
         ImagePanel imagePanel = this.makeDrawingPane();
-        OptionsPanel optionsPanel = new OptionsPanel(this.drawer, this.baseGenerators, this.baseCarvers);
+        OptionsPanel optionsPanel = new OptionsPanel(
+                this.drawer, this.baseGenerators, this.baseCarvers, this.solvers);
 
         imagePanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         optionsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
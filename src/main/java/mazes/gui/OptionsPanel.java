@@ -1,7 +1,7 @@
 package mazes.gui;
 
-import datastructures.concrete.ChainedHashSet;
 import datastructures.concrete.KVPair;
+import datastructures.concrete.OpenAddressingSet;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
@@ -10,21 +10,25 @@ import mazes.entities.Room;
 import mazes.entities.Wall;
 import mazes.generators.base.BaseMazeGenerator;
 import mazes.generators.maze.MazeCarver;
+import mazes.solvers.MazeSolver;
 import misc.exceptions.NoPathExistsException;
-import datastructures.concrete.Graph;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ItemEvent;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
 
 public class OptionsPanel extends JPanel {
     private ImageDrawer drawer;
     private IDictionary<String, BaseMazeGenerator> baseGenerators;
     private IDictionary<String, MazeCarver> baseCarvers;
+    private IDictionary<String, BiFunction<ISet<Room>, ISet<Wall>, MazeSolver>> solvers;
 
     private String baseGeneratorName;
     private String baseCarverName;
+    private String solverName;
 
     private Maze originalMaze;
     private Maze currentMaze;
@@ -34,10 +38,12 @@ public class OptionsPanel extends JPanel {
 
     public OptionsPanel(ImageDrawer drawer, 
                         IDictionary<String, BaseMazeGenerator> baseGenerators, 
-                        IDictionary<String, MazeCarver> baseCarvers) {
+                        IDictionary<String, MazeCarver> baseCarvers,
+                        IDictionary<String, BiFunction<ISet<Room>, ISet<Wall>, MazeSolver>> solvers) {
         this.drawer = drawer;
         this.baseGenerators = baseGenerators;
         this.baseCarvers = baseCarvers;
+        this.solvers = solvers;
 
         this.buildLayout();
 
@@ -55,6 +61,10 @@ public class OptionsPanel extends JPanel {
         label2.setText("Maze generator");
         this.add(label2, 0, 1, GridBagConstraints.WEST);
 
+        JLabel label3 = new JLabel();
+        label3.setText("Path finder");
+        this.add(label3, 0, 2, GridBagConstraints.WEST);
+
         JComboBox<String> baseShapeComboBox = new JComboBox<>(this.getKeysAsArray(this.baseGenerators));
         baseShapeComboBox.addItemListener(this::onBaseShapeChange);
         this.baseGeneratorName = (String) baseShapeComboBox.getSelectedItem();
@@ -65,8 +75,14 @@ public class OptionsPanel extends JPanel {
         this.baseCarverName = (String) mazeGeneratorComboBox.getSelectedItem();
         this.add(mazeGeneratorComboBox, 1, 1, GridBagConstraints.WEST, GridBagConstraints.HORIZONTAL, 1.0);
 
+        JComboBox<String> solverComboBox = new JComboBox<>(this.getKeysAsArray(this.solvers));
+        solverComboBox.addItemListener(this::onSolverChange);
+        this.solverName = (String) solverComboBox.getSelectedItem();
+        this.add(solverComboBox, 1, 2, GridBagConstraints.WEST, GridBagConstraints.HORIZONTAL, 1.0);
+
         this.add(new JPanel(), 2, 0, GridBagConstraints.WEST, GridBagConstraints.HORIZONTAL, 0.5);
         this.add(new JPanel(), 2, 1, GridBagConstraints.WEST, GridBagConstraints.HORIZONTAL, 0.5);
+        this.add(new JPanel(), 2, 2, GridBagConstraints.WEST, GridBagConstraints.HORIZONTAL, 0.5);
 
         JButton generateMazeButton = new JButton();
         generateMazeButton.setText("Generate new maze");
@@ -101,15 +117,23 @@ public class OptionsPanel extends JPanel {
         }
     }
 
+    private void onSolverChange(ItemEvent event) {
+        if (event.getStateChange() == ItemEvent.SELECTED) {
+            this.solverName = (String) event.getItem();
+        }
+    }
+
     private void generateMaze(ActionEvent event) {
         this.drawer.clear();
 
         BaseMazeGenerator generator = this.baseGenerators.get(this.baseGeneratorName);
         MazeCarver carver = this.baseCarvers.get(this.baseCarverName);
 
+        // The base maze and the carver get independent streams from one generator.
+        SplittableRandom rand = new SplittableRandom();
         Rectangle bound = drawer.getBoundingBox();
-        this.originalMaze = generator.generateBaseMaze(bound);
-        this.currentMaze = carver.generateMaze(this.originalMaze);
+        this.originalMaze = generator.generateBaseMaze(bound, rand.split());
+        this.currentMaze = carver.generateMaze(this.originalMaze, rand.split());
 
         this.start = this.currentMaze.getRoom(new Point(bound.x + 5, bound.y + 5));
         this.end = this.currentMaze.getRoom(new Point(bound.x + bound.width - 5, bound.y + bound.height - 5));
@@ -120,11 +144,11 @@ public class OptionsPanel extends JPanel {
     }
 
     private void drawShortestPath(ActionEvent event) {
-        Graph<Room, Wall> graph = new Graph<>(
+        MazeSolver solver = this.solvers.get(this.solverName).apply(
                 this.originalMaze.getRooms(),
                 this.subtract(this.originalMaze.getWalls(), this.currentMaze.getWalls()));
         try {
-            IList<Wall> path = graph.findShortestPathBetween(this.start, this.end);
+            IList<Wall> path = solver.findShortestPath(this.start, this.end);
             this.drawer.drawPath(path);
         } catch (NoPathExistsException ex) {
             JOptionPane.showMessageDialog(
@@ -134,7 +158,7 @@ public class OptionsPanel extends JPanel {
     }
 
     private <T> ISet<T> subtract(ISet<T> bigger, ISet<T> smaller) {
-        ISet<T> output = new ChainedHashSet<>();
+        ISet<T> output = new OpenAddressingSet<>();
         for (T item : bigger) {
             if (!smaller.contains(item)) {
                 output.add(item);
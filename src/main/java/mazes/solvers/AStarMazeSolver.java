@@ -0,0 +1,44 @@
+package mazes.solvers;
+
+import datastructures.concrete.Graph;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import misc.exceptions.NoPathExistsException;
+
+/**
+ * Finds shortest paths through a maze using A* search.
+ *
+ * A wall's weight is the distance between the centers of the two rooms it
+ * separates, so the straight-line distance from a room's center to the goal's
+ * center never overestimates the remaining path length. A* uses it to head
+ * toward the goal instead of exploring every room as far away as the goal.
+ */
+public class AStarMazeSolver implements MazeSolver {
+    private Graph<Room, Wall> graph;
+
+    /**
+     * Constructs a solver for the maze whose rooms are connected wherever one
+     * of the given (removed) walls used to be.
+     *
+     * Note: the walls must still have their original distances.
+     */
+    public AStarMazeSolver(ISet<Room> rooms, ISet<Wall> passages) {
+        this.graph = new Graph<>(rooms, passages);
+    }
+
+    /**
+     * Returns the walls that make up the shortest path from the start room to
+     * the end room, in order.
+     *
+     * @throws NoPathExistsException  if the end room cannot be reached from the start room
+     */
+    @Override
+    public IList<Wall> findShortestPath(Room start, Room end) {
+        return this.graph.findShortestPathAStar(
+                start,
+                end,
+                room -> room.getCenter().distance(end.getCenter()));
+    }
+}
@@ -0,0 +1,38 @@
+package mazes.solvers;
+
+import datastructures.concrete.Graph;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import misc.exceptions.NoPathExistsException;
+
+/**
+ * Finds shortest paths through a maze using bidirectional Dijkstra search.
+ *
+ * Unlike AStarMazeSolver this needs no heuristic, so it stays correct for any
+ * non-negative wall weights, and it still settles far fewer rooms than a
+ * one-sided search because each side only covers about half the distance.
+ */
+public class BidirectionalMazeSolver implements MazeSolver {
+    private Graph<Room, Wall> graph;
+
+    /**
+     * Constructs a solver for the maze whose rooms are connected wherever one
+     * of the given (removed) walls used to be.
+     */
+    public BidirectionalMazeSolver(ISet<Room> rooms, ISet<Wall> passages) {
+        this.graph = new Graph<>(rooms, passages);
+    }
+
+    /**
+     * Returns the walls that make up the shortest path from the start room to
+     * the end room, in order.
+     *
+     * @throws NoPathExistsException  if the end room cannot be reached from the start room
+     */
+    @Override
+    public IList<Wall> findShortestPath(Room start, Room end) {
+        return this.graph.findShortestPathBidirectional(start, end);
+    }
+}
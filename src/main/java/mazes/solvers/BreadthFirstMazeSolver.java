@@ -0,0 +1,80 @@
+package mazes.solvers;
+
+import mazes.entities.MazeTopology;
+import misc.exceptions.NoPathExistsException;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Finds shortest paths, counted in rooms, through a maze given only as a
+ * MazeTopology, so it also works on mazes too large for Room and Wall objects,
+ * such as a big ImplicitGridMaze.
+ *
+ * A breadth-first search needs no weights or priority queue: it keeps one int
+ * per room for the wall it was reached through, a queue of room ids, and one
+ * bit per room to mark the rooms already seen.
+ */
+public class BreadthFirstMazeSolver {
+    private final MazeTopology topology;
+    private final IntPredicate isPassage;
+
+    /**
+     * Constructs a solver that may walk through every wall of the topology
+     * that 'isPassage' accepts; for an ImplicitGridMaze, that is usually
+     * wall -> !maze.hasWall(wall).
+     */
+    public BreadthFirstMazeSolver(MazeTopology topology, IntPredicate isPassage) {
+        this.topology = topology;
+        this.isPassage = isPassage;
+    }
+
+    /**
+     * Returns the ids of the walls that make up a shortest path from the start
+     * room to the end room, in order.
+     *
+     * @throws IndexOutOfBoundsException  if either room does not exist
+     * @throws NoPathExistsException      if the end room cannot be reached from the start room
+     */
+    public int[] findShortestPath(int start, int end) {
+        int numRooms = topology.numRooms();
+        if (start < 0 || start >= numRooms || end < 0 || end >= numRooms) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int[] predWall = new int[numRooms];
+        long[] visited = new long[(numRooms + Long.SIZE - 1) / Long.SIZE];
+        // Each room is enqueued at most once, so the queue never wraps around.
+        int[] queue = new int[numRooms];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited[start >>> 6] |= 1L << start;
+
+        while (head < tail && (visited[end >>> 6] & (1L << end)) == 0) {
+            int room = queue[head++];
+            for (int i = 0; i < topology.degree(room); i++) {
+                int wall = topology.incidentWall(room, i);
+                int next = topology.otherRoom(wall, room);
+                if ((visited[next >>> 6] & (1L << next)) == 0 && isPassage.test(wall)) {
+                    visited[next >>> 6] |= 1L << next;
+                    predWall[next] = wall;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        if ((visited[end >>> 6] & (1L << end)) == 0) {
+            throw new NoPathExistsException();
+        }
+
+        int length = 0;
+        for (int room = end; room != start; room = topology.otherRoom(predWall[room], room)) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int room = end; room != start; room = topology.otherRoom(predWall[room], room)) {
+            length--;
+            path[length] = predWall[room];
+        }
+        return path;
+    }
+}
@@ -0,0 +1,18 @@
+package mazes.solvers;
+
+import datastructures.interfaces.IList;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+
+/**
+ * Finds shortest paths through a fixed maze of Room and Wall objects.
+ */
+public interface MazeSolver {
+    /**
+     * Returns the walls that make up the shortest path from the start room to
+     * the end room, in order.
+     *
+     * @throws misc.exceptions.NoPathExistsException  if the end room cannot be reached from the start room
+     */
+    public IList<Wall> findShortestPath(Room start, Room end);
+}
@@ -1,13 +1,203 @@
 package misc;
 
 import datastructures.concrete.ArrayHeap;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DynamicArrayList;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
-//import misc.exceptions.NotYetImplementedException;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 public class Sorter {
+    // Ranges this short are insertion sorted instead of split further.
+    private static final int INSERTION_SORT_CUTOFF = 32;
+    // Inputs at least this long are sorted on the common fork/join pool...
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    // ...by tasks that each sort at most this many items sequentially.
+    private static final int PARALLEL_SORT_GRANULARITY = 1 << 13;
+    // topKSort keeps a bounded heap when k is below n / HEAP_RATIO, and uses quickselect otherwise.
+    private static final int HEAP_RATIO = 16;
+    // Keys that are all integers spanning fewer than this many values are counting sorted.
+    private static final int COUNTING_SORT_MAX_RANGE = 1 << 16;
+    // ...and whose magnitudes are all below this, so they convert to longs exactly.
+    private static final double MAX_EXACT_INTEGER = 0x1p53;
+    // sortIndicesByKey radix sorts one byte of the key per pass.
+    private static final int RADIX_BITS = 8;
+
+    /**
+     * Returns a new list holding the items of the input list in sorted order,
+     * from smallest to largest. Items that compare as equal keep their
+     * relative order from the input.
+     *
+     * This is an array-based merge sort that takes O(n log n) time, or O(n)
+     * when the input is already sorted. Large inputs are sorted on all
+     * available cores.
+     *
+     * This method must not modify the input list.
+     *
+     * @throws IllegalArgumentException  if input is null or contains null
+     */
+    public static <T extends Comparable<T>> IList<T> sort(IList<T> input) {
+        T[] items = toArray(input);
+        sortRange(items, 0, items.length);
+        return toList(items, 0, items.length);
+    }
+
+    /**
+     * Returns the indices 0 through keys.length - 1 ordered so that their keys
+     * are ascending; -0.0 counts as equal to 0.0 and NaN sorts after everything
+     * else. Indices with equal keys stay in increasing order.
+     *
+     * This sorts in linear time without comparing keys: when every key is an
+     * integer below 2^53 in magnitude and they span fewer than 65536 values,
+     * the indices are counting sorted by key; otherwise each key is mapped to a
+     * long whose unsigned order matches the order of the doubles, and the
+     * indices are LSD radix sorted one byte at a time, skipping bytes that are
+     * the same for every key.
+     *
+     * This method must not modify the keys.
+     *
+     * @throws IllegalArgumentException  if keys is null
+     */
+    public static int[] sortIndicesByKey(double[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException();
+        }
+        int n = keys.length;
+        int[] order = new int[n];
+        if (n == 0) {
+            return order;
+        }
+
+        double min = keys[0];
+        double max = keys[0];
+        boolean integral = true;
+        for (double key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+            integral = integral && key == Math.rint(key);
+        }
+        // Beyond 2^53 doubles are not exact integers, and beyond 2^63 they do not
+        // fit in a long, so such keys are left to the radix sort.
+        if (integral && Math.abs(min) < MAX_EXACT_INTEGER && Math.abs(max) < MAX_EXACT_INTEGER
+                && max - min < COUNTING_SORT_MAX_RANGE) {
+            countingSortIndices(keys, (long) min, (int) (max - min) + 1, order);
+            return order;
+        }
+
+        long[] bits = new long[n];
+        for (int i = 0; i < n; i++) {
+            bits[i] = sortableBits(keys[i]);
+            order[i] = i;
+        }
+        radixSortIndices(bits, order);
+        return order;
+    }
+
+    /**
+     * Returns the indices 0 through keys.length - 1 ordered so that their keys
+     * are ascending. Indices with equal keys stay in increasing order.
+     *
+     * Like sortIndicesByKey(double[]), this LSD radix sorts the indices one
+     * byte of the key at a time, skipping bytes that are the same for every key.
+     *
+     * This method must not modify the keys.
+     *
+     * @throws IllegalArgumentException  if keys is null
+     */
+    public static int[] sortIndicesByKey(long[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException();
+        }
+        int n = keys.length;
+        int[] order = new int[n];
+        if (n == 0) {
+            return order;
+        }
+        long[] bits = new long[n];
+        for (int i = 0; i < n; i++) {
+            // Flipping the sign bit makes the unsigned order the signed one.
+            bits[i] = keys[i] ^ Long.MIN_VALUE;
+            order[i] = i;
+        }
+        radixSortIndices(bits, order);
+        return order;
+    }
+
+    private static void countingSortIndices(double[] keys, long min, int range, int[] order) {
+        int[] starts = new int[range + 1];
+        for (double key : keys) {
+            starts[(int) ((long) key - min) + 1]++;
+        }
+        for (int i = 1; i <= range; i++) {
+            starts[i] += starts[i - 1];
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int bucket = (int) ((long) keys[i] - min);
+            order[starts[bucket]] = i;
+            starts[bucket]++;
+        }
+    }
+
+    /**
+     * Maps a double to a long so that comparing the results as unsigned numbers
+     * orders them like the doubles: negative values have all their bits
+     * flipped, and everything else has just its sign bit flipped.
+     */
+    private static long sortableBits(double key) {
+        // Adding 0.0 turns -0.0 into 0.0.
+        long bits = Double.doubleToLongBits(key + 0.0);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Stably sorts the parallel arrays bits and order by the unsigned value of bits.
+     */
+    private static void radixSortIndices(long[] bits, int[] order) {
+        int n = bits.length;
+        int[] result = order;
+        int radix = 1 << RADIX_BITS;
+        long[] otherBits = new long[n];
+        int[] otherOrder = new int[n];
+        int[] starts = new int[radix];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            for (int i = 0; i < radix; i++) {
+                starts[i] = 0;
+            }
+            for (int i = 0; i < n; i++) {
+                starts[(int) (bits[i] >>> shift) & (radix - 1)]++;
+            }
+            if (starts[(int) (bits[0] >>> shift) & (radix - 1)] == n) {
+                // Every key has the same byte here; this pass would not move anything.
+                continue;
+            }
+            int total = 0;
+            for (int i = 0; i < radix; i++) {
+                int count = starts[i];
+                starts[i] = total;
+                total += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int digit = (int) (bits[i] >>> shift) & (radix - 1);
+                otherBits[starts[digit]] = bits[i];
+                otherOrder[starts[digit]] = order[i];
+                starts[digit]++;
+            }
+            long[] tempBits = bits;
+            bits = otherBits;
+            otherBits = tempBits;
+            int[] tempOrder = order;
+            order = otherOrder;
+            otherOrder = tempOrder;
+        }
+        if (order != result) {
+            System.arraycopy(order, 0, result, 0, n);
+        }
+    }
+
     /**
      * This method takes the input list and returns the top k elements
      * in sorted order.
@@ -18,55 +208,232 @@ public class Sorter {
      * If the input list contains fewer than 'k' elements, return
      * a list containing all input.length elements in sorted order.
      *
+     * When k covers the whole input this is just sort. Otherwise a small k
+     * keeps the best k items seen so far in a heap, and a larger k moves the
+     * top k items to the end of an array with quickselect and sorts only
+     * those.
+     *
      * This method must not modify the input list.
      *
      * @throws IllegalArgumentException  if k < 0
      * @throws IllegalArgumentException  if input is null
      */
     public static <T extends Comparable<T>> IList<T> topKSort(int k, IList<T> input) {
-        // Implementation notes:
-        //
-        // - This static method is a _generic method_. A generic method is similar to
-        //   the generic methods we covered in class, except that the generic parameter
-        //   is used only within this method.
-        //
-        //   You can implement a generic method in basically the same way you implement
-        //   generic classes: just use the 'T' generic type as if it were a regular type.
-        //
-        // - You should implement this method by using your ArrayHeap for the sake of
-        //   efficiency.
-        IList<T> ilist = new DoubleLinkedList<>();
-        IPriorityQueue<T> heap = new ArrayHeap<>();
-        int size = input.size();
         if (input == null || k < 0) {
             throw new IllegalArgumentException();
         }
+        int size = input.size();
         if (k == 0) {
-            return new DoubleLinkedList<>();
+            return new DynamicArrayList<>();
+        }
+        if (k >= size) {
+            return sort(input);
         }
-        if (size < k) {
-            k = size;
+        if (k < size / HEAP_RATIO) {
+            return heapTopK(k, input);
         }
 
+        T[] items = toArray(input);
+        select(items, size - k);
+        sortRange(items, size - k, size);
+        return toList(items, size - k, size);
+    }
 
-        for (T item : input) {
-            heap.insert(item);
-            if (heap.size() > k) {
+    /**
+     * Returns the top k items using a heap that never holds more than k of them.
+     * Requires k < input.size().
+     */
+    private static <T extends Comparable<T>> IList<T> heapTopK(int k, IList<T> input) {
+        Iterator<T> iter = input.iterator();
+        IList<T> firstK = new DynamicArrayList<>(k);
+        while (firstK.size() < k) {
+            firstK.add(iter.next());
+        }
+        IPriorityQueue<T> heap = new ArrayHeap<>(firstK);
+        while (iter.hasNext()) {
+            T item = iter.next();
+            if (item == null) {
+                throw new IllegalArgumentException();
+            }
+            if (item.compareTo(heap.peekMin()) > 0) {
+                // Most items lose to the current k-th best and never touch the heap.
                 heap.removeMin();
+                heap.insert(item);
+            }
+        }
+        IList<T> output = new DynamicArrayList<>(k);
+        while (!heap.isEmpty()) {
+            output.add(heap.removeMin());
+        }
+        return output;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> T[] toArray(IList<T> input) {
+        if (input == null) {
+            throw new IllegalArgumentException();
+        }
+        T[] items = (T[]) new Comparable[input.size()];
+        int i = 0;
+        for (T item : input) {
+            if (item == null) {
+                throw new IllegalArgumentException();
+            }
+            items[i] = item;
+            i++;
+        }
+        return items;
+    }
+
+    private static <T> IList<T> toList(T[] items, int lo, int hi) {
+        IList<T> output = new DynamicArrayList<>(hi - lo);
+        for (int i = lo; i < hi; i++) {
+            output.add(items[i]);
+        }
+        return output;
+    }
+
+    /**
+     * Stably sorts items[lo, hi), in parallel if the range is large enough.
+     *
+     * The scratch buffer only covers the range being sorted: items[i] is
+     * buffered at buffer[i - lo], so sorting the top k items of a large array
+     * takes O(k) extra space.
+     */
+    private static <T extends Comparable<T>> void sortRange(T[] items, int lo, int hi) {
+        @SuppressWarnings("unchecked")
+        T[] buffer = (T[]) new Comparable[hi - lo];
+        if (hi - lo >= PARALLEL_SORT_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new ParallelMergeSort<>(items, buffer, lo, lo, hi));
+        } else {
+            mergeSort(items, buffer, lo, lo, hi);
+        }
+    }
+
+    private static <T extends Comparable<T>> void mergeSort(T[] items, T[] buffer, int offset, int lo, int hi) {
+        if (hi - lo <= INSERTION_SORT_CUTOFF) {
+            insertionSort(items, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeSort(items, buffer, offset, lo, mid);
+        mergeSort(items, buffer, offset, mid, hi);
+        merge(items, buffer, offset, lo, mid, hi);
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(T[] items, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            T item = items[i];
+            int j = i;
+            while (j > lo && item.compareTo(items[j - 1]) < 0) {
+                items[j] = items[j - 1];
+                j--;
+            }
+            items[j] = item;
+        }
+    }
+
+    /**
+     * Merges the sorted runs items[lo, mid) and items[mid, hi), using
+     * buffer[lo - offset, mid - offset) as scratch space.
+     */
+    private static <T extends Comparable<T>> void merge(T[] items, T[] buffer, int offset, int lo, int mid, int hi) {
+        if (items[mid - 1].compareTo(items[mid]) <= 0) {
+            // The runs are already in order.
+            return;
+        }
+        System.arraycopy(items, lo, buffer, lo - offset, mid - lo);
+        int left = lo - offset;
+        int leftEnd = mid - offset;
+        int right = mid;
+        int out = lo;
+        while (left < leftEnd && right < hi) {
+            // Taking from the left run on ties keeps the sort stable.
+            if (items[right].compareTo(buffer[left]) < 0) {
+                items[out] = items[right];
+                right++;
+            } else {
+                items[out] = buffer[left];
+                left++;
+            }
+            out++;
+        }
+        System.arraycopy(buffer, left, items, out, leftEnd - left);
+    }
+
+    /**
+     * Sorts both halves of a range as separate fork/join tasks, then merges them.
+     */
+    private static class ParallelMergeSort<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] items;
+        private final T[] buffer;
+        // items[i] is buffered at buffer[i - offset].
+        private final int offset;
+        private final int lo;
+        private final int hi;
+
+        public ParallelMergeSort(T[] items, T[] buffer, int offset, int lo, int hi) {
+            this.items = items;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= PARALLEL_SORT_GRANULARITY) {
+                mergeSort(items, buffer, offset, lo, hi);
+                return;
             }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ParallelMergeSort<>(items, buffer, offset, lo, mid),
+                    new ParallelMergeSort<>(items, buffer, offset, mid, hi));
+            merge(items, buffer, offset, lo, mid, hi);
         }
+    }
 
-        //
-        // for (T item : input) {
-        //     heap.insert(item);
-        // }
-        // while (heap.size()>k){
-        //     heap.removeMin();
-        // }
-        for (int i = 0; i < k; i++) {
-            ilist.add(heap.removeMin());
+    /**
+     * Rearranges the items so that items[index] holds the item that would be there
+     * if the array were sorted, with no larger item before it and no smaller item
+     * after it. Takes expected O(n) time.
+     */
+    private static <T extends Comparable<T>> void select(T[] items, int index) {
+        int lo = 0;
+        int hi = items.length - 1;
+        while (lo < hi) {
+            T pivot = items[lo + ThreadLocalRandom.current().nextInt(hi - lo + 1)];
+            // Three-way partition: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi] > pivot,
+            // so runs of duplicates cannot make this quadratic.
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                int cmp = items[i].compareTo(pivot);
+                if (cmp < 0) {
+                    swap(items, lt, i);
+                    lt++;
+                    i++;
+                } else if (cmp > 0) {
+                    swap(items, i, gt);
+                    gt--;
+                } else {
+                    i++;
+                }
+            }
+            if (index < lt) {
+                hi = lt - 1;
+            } else if (index > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
         }
-        return ilist;
+    }
 
+    private static <T> void swap(T[] items, int i, int j) {
+        T temp = items[i];
+        items[i] = items[j];
+        items[j] = temp;
     }
 }
@@ -0,0 +1,72 @@
+package datastructures;
+
+import datastructures.concrete.ConcurrentIntDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestConcurrentIntDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testUnion() {
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(5);
+        assertEquals(5, forest.size());
+        assertTrue(forest.union(0, 1));
+        assertTrue(forest.union(2, 3));
+        assertFalse(forest.union(1, 0));
+        assertEquals(forest.findSet(0), forest.findSet(1));
+        assertEquals(forest.findSet(2), forest.findSet(3));
+        assertTrue(forest.findSet(0) != forest.findSet(2));
+        assertEquals(4, forest.findSet(4));
+
+        assertTrue(forest.union(3, 0));
+        int id = forest.findSet(0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(id, forest.findSet(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIllegalIds() {
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(3);
+        int[] bad = new int[] {-1, 3};
+        for (int id : bad) {
+            try {
+                forest.findSet(id);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+            try {
+                forest.union(0, id);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testParallelUnionsMergeEachPairOnce() {
+        int numItems = 1000000;
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(numItems);
+        // Every link is attempted twice, in both directions, from many threads;
+        // exactly numItems - 1 of the attempts may report a merge.
+        long merges = IntStream.range(0, 4 * (numItems - 1)).parallel()
+                .filter(i -> {
+                    int a = (int) ((i / 4) * 7919L % numItems);
+                    int b = (int) ((i / 4 + 1) * 7919L % numItems);
+                    return i % 2 == 0 ? forest.union(a, b) : forest.union(b, a);
+                })
+                .count();
+        assertEquals(numItems - 1, (int) merges);
+        int id = forest.findSet(0);
+        for (int i = 0; i < numItems; i++) {
+            assertEquals(id, forest.findSet(i));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package datastructures;
+
+import datastructures.concrete.CsrAdjacency;
+import misc.BaseTest;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestCsrAdjacency extends BaseTest {
+    /**
+     * Vertices 0-3 with edges 0: 0-1 (w 1), 1: 1-2 (w 2), 2: 0-2 (w 3), 3: 3-3 (w 4).
+     */
+    private CsrAdjacency buildSmall() {
+        return new CsrAdjacency(
+                4,
+                new int[] {0, 1, 0, 3},
+                new int[] {1, 2, 2, 3},
+                new double[] {1, 2, 3, 4});
+    }
+
+    @Test(timeout=SECOND)
+    public void testSizesAndDegrees() {
+        CsrAdjacency adjacency = this.buildSmall();
+        assertEquals(4, adjacency.numVertices());
+        assertEquals(4, adjacency.numEdges());
+        assertEquals(2, adjacency.degree(0));
+        assertEquals(2, adjacency.degree(1));
+        assertEquals(2, adjacency.degree(2));
+        assertEquals(2, adjacency.degree(3)); // self-loop counts once per endpoint
+        assertEquals(adjacency.degree(1), adjacency.end(1) - adjacency.start(1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSlotsDescribeIncidentEdges() {
+        CsrAdjacency adjacency = this.buildSmall();
+        for (int v = 0; v < adjacency.numVertices(); v++) {
+            for (int i = adjacency.start(v); i < adjacency.end(v); i++) {
+                int edge = adjacency.edgeId(i);
+                assertEquals(adjacency.target(i), adjacency.otherVertex(edge, v));
+                assertEquals(adjacency.edgeWeight(edge), adjacency.weight(i), 0.0);
+                assertTrue(adjacency.edgeVertex1(edge) == v || adjacency.edgeVertex2(edge) == v);
+            }
+        }
+        int start = adjacency.start(0);
+        assertEquals(1, adjacency.target(start));
+        assertEquals(2, adjacency.target(start + 1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testBadInputNotPermitted() {
+        try {
+            new CsrAdjacency(2, new int[] {0, 1}, new int[] {1}, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new CsrAdjacency(2, new int[] {0}, new int[] {2}, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
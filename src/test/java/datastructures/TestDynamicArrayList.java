@@ -0,0 +1,151 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDynamicArrayList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new DynamicArrayList<>();
+
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        return list;
+    }
+
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void basicTestAddGetAndRemove() {
+        IList<String> list = makeBasicList();
+        assertListMatches(new String[] {"a", "b", "c"}, list);
+        assertEquals("c", list.remove());
+        assertListMatches(new String[] {"a", "b"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetInsertAndDelete() {
+        IList<String> list = makeBasicList();
+        list.set(1, "x");
+        list.insert(0, "front");
+        list.insert(4, "back");
+        list.insert(2, "mid");
+        assertListMatches(new String[] {"front", "a", "mid", "x", "c", "back"}, list);
+
+        assertEquals("mid", list.delete(2));
+        assertEquals("front", list.delete(0));
+        assertEquals("back", list.delete(3));
+        assertListMatches(new String[] {"a", "x", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContainsWithNull() {
+        IList<String> list = makeBasicList();
+        list.add(null);
+        list.add("b");
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("z"));
+        assertTrue(list.contains(null));
+        assertFalse(list.contains("z"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsThrowsException() {
+        IList<String> list = makeBasicList();
+        int[] badIndices = new int[] {-1, 3, 10};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // Do nothing: this is ok
+            }
+            try {
+                list.set(index, "x");
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // Do nothing: this is ok
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // Do nothing: this is ok
+            }
+        }
+        try {
+            list.insert(4, "x");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // Do nothing: this is ok
+        }
+        assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveOnEmptyListThrowsException() {
+        IList<String> list = new DynamicArrayList<>(0);
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // Do nothing: this is ok
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        IList<String> list = makeBasicList();
+        Iterator<String> iter = list.iterator();
+        assertEquals("a", iter.next());
+        assertEquals("b", iter.next());
+        assertTrue(iter.hasNext());
+        assertEquals("c", iter.next());
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // Do nothing: this is ok
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testRandomAccessIsEfficient() {
+        IList<Integer> list = new DynamicArrayList<>();
+        int cap = 5000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < cap; i++) {
+            list.set(i, list.get(i) * 2);
+        }
+        for (int i = cap - 1; i >= 0; i--) {
+            assertEquals(2 * i, list.remove());
+        }
+        assertTrue(list.isEmpty());
+    }
+}
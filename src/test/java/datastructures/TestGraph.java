@@ -9,6 +9,8 @@ import misc.BaseTest;
 import misc.exceptions.NoPathExistsException;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -103,6 +105,26 @@ public class TestGraph extends BaseTest {
         assertEquals(expectedFinalCost, cost, 0.0001);
     }
 
+    public <V> void assertBidirectionalPathMatches(Graph<V, SimpleEdge<V>> graph, V start, V end) {
+        IList<SimpleEdge<V>> expected = graph.findShortestPathBetween(start, end);
+        IList<SimpleEdge<V>> path = graph.findShortestPathBidirectional(start, end);
+        assertEquals(pathCost(expected, start, end), pathCost(path, start, end), 0.0001);
+    }
+
+    /**
+     * Checks that the path really leads from start to end and returns its cost.
+     */
+    private <V> double pathCost(IList<SimpleEdge<V>> path, V start, V end) {
+        double cost = 0.0;
+        V curr = start;
+        for (SimpleEdge<V> edge : path) {
+            curr = edge.getOtherVertex(curr);
+            cost += edge.getWeight();
+        }
+        assertEquals(end, curr);
+        return cost;
+    }
+
     public Graph<String, SimpleEdge<String>> buildSimpleGraph() {
         IList<String> vertices = new DoubleLinkedList<>();
         vertices.add("a");
@@ -327,4 +349,232 @@ public class TestGraph extends BaseTest {
             // All ok -- expected result
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testGraphWithNullNotPermitted() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        vertices.add("a");
+        vertices.add("b");
+
+        IList<SimpleEdge<String>> edges = new DoubleLinkedList<>();
+        edges.add(edge("a", "b", 3));
+        edges.add(null);
+        try {
+            new Graph<>(vertices, edges);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        edges.remove();
+        vertices.add(null);
+        try {
+            new Graph<>(vertices, edges);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        try {
+            new Graph<String, SimpleEdge<String>>((IList<String>) null, edges);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    /**
+     * Builds a numRows x numColumns grid graph where vertex (r, c) is the
+     * integer r * numColumns + c; every edge has weight 1.
+     */
+    public Graph<Integer, SimpleEdge<Integer>> buildGridGraph(int numRows, int numColumns) {
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        for (int r = 0; r < numRows; r++) {
+            for (int c = 0; c < numColumns; c++) {
+                int v = r * numColumns + c;
+                vertices.add(v);
+                if (c > 0) {
+                    edges.add(edge(v - 1, v, 1));
+                }
+                if (r > 0) {
+                    edges.add(edge(v - numColumns, v, 1));
+                }
+            }
+        }
+        return new Graph<>(vertices, edges);
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testLargeGraphIsEfficient() {
+        int size = 500;
+        Graph<Integer, SimpleEdge<Integer>> graph = this.buildGridGraph(size, size);
+        assertEquals(size * size, graph.numVertices());
+        assertEquals(2 * size * (size - 1), graph.numEdges());
+
+        IList<SimpleEdge<Integer>> path = graph.findShortestPathBetween(0, size * size - 1);
+        assertEquals(2 * (size - 1), path.size());
+        assertEquals(size * size - 1, graph.findMinimumSpanningTree().size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBidirectionalMatchesDijkstra() {
+        Graph<String, SimpleEdge<String>> graph = this.buildComplexGraph();
+        String[] vertices = new String[] {"a", "b", "c", "d", "e", "f", "g"};
+        for (String start : vertices) {
+            for (String end : vertices) {
+                assertBidirectionalPathMatches(graph, start, end);
+            }
+        }
+        assertEquals(0, graph.findShortestPathBidirectional("d", "d").size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBidirectionalDisconnectedComponents() {
+        Graph<String, SimpleEdge<String>> graph = this.buildDisconnectedGraph();
+        assertBidirectionalPathMatches(graph, "g", "a");
+        assertBidirectionalPathMatches(graph, "j", "i");
+
+        try {
+            graph.findShortestPathBidirectional("a", "i");
+            fail("Expected NoPathExistsException");
+        } catch (NoPathExistsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testBidirectionalOnLargeGrid() {
+        int size = 300;
+        Graph<Integer, SimpleEdge<Integer>> graph = this.buildGridGraph(size, size);
+        IList<SimpleEdge<Integer>> path = graph.findShortestPathBidirectional(0, size * size - 1);
+        assertEquals(2 * (size - 1), path.size());
+        assertBidirectionalPathMatches(graph, size / 2, size * size - size / 3);
+    }
+
+    @Test(timeout=SECOND)
+    public void testAStarWithZeroHeuristicMatchesDijkstra() {
+        Graph<String, SimpleEdge<String>> graph = this.buildComplexGraph();
+        String[] vertices = new String[] {"a", "b", "c", "d", "e", "f", "g"};
+        for (String start : vertices) {
+            for (String end : vertices) {
+                IList<SimpleEdge<String>> expected = graph.findShortestPathBetween(start, end);
+                IList<SimpleEdge<String>> path = graph.findShortestPathAStar(start, end, v -> 0.0);
+                assertEquals(pathCost(expected, start, end), pathCost(path, start, end), 0.0001);
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAStarDisconnectedComponents() {
+        Graph<String, SimpleEdge<String>> graph = this.buildDisconnectedGraph();
+        try {
+            graph.findShortestPathAStar("a", "i", v -> 0.0);
+            fail("Expected NoPathExistsException");
+        } catch (NoPathExistsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            graph.findShortestPathAStar("a", "b", null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testAStarOnLargeGridWithManhattanHeuristic() {
+        int size = 300;
+        Graph<Integer, SimpleEdge<Integer>> graph = this.buildGridGraph(size, size);
+        int end = size * size - 1 - size / 2;
+        IList<SimpleEdge<Integer>> path = graph.findShortestPathAStar(7, end, v ->
+                Math.abs(v / size - end / size) + Math.abs(v % size - end % size));
+        assertEquals(graph.findShortestPathBetween(7, end).size(), path.size());
+        assertEquals(path.size(), pathCost(path, 7, end), 0.0001);
+    }
+
+    @Test(timeout=SECOND)
+    public void testFindingMstParallel() {
+        Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+        ISet<SimpleEdge<String>> mst = graph.findMinimumSpanningTreeParallel();
+
+        assertEquals(graph.numVertices() - 1, mst.size());
+        assertTrue(mst.contains(edge("a", "d", 1)));
+        assertTrue(mst.contains(edge("a", "b", 2)));
+        assertTrue(mst.contains(edge("b", "e", 3)));
+        assertTrue(mst.contains(edge("a", "c", 5)));
+        assertTrue(mst.contains(edge("d", "f", 6)));
+    }
+
+    /**
+     * Returns the total weight of the given edges.
+     */
+    private <V> double totalWeight(ISet<SimpleEdge<V>> edges) {
+        double total = 0.0;
+        for (SimpleEdge<V> edge : edges) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testParallelMstMatchesKruskal() {
+        Random rand = new Random(42);
+        int size = 400;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        for (int v = 0; v < size * size; v++) {
+            vertices.add(v);
+            if (v % size > 0) {
+                // Few distinct weights, so there are many ties to break.
+                edges.add(edge(v - 1, v, rand.nextInt(10)));
+            }
+            if (v >= size) {
+                edges.add(edge(v - size, v, rand.nextInt(10)));
+            }
+        }
+        // Some self-loops and parallel edges as well.
+        edges.add(edge(5, 5, 0));
+        edges.add(edge(0, 1, 0));
+        edges.add(edge(0, 1, 0));
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+
+        ISet<SimpleEdge<Integer>> expected = graph.findMinimumSpanningTree();
+        ISet<SimpleEdge<Integer>> mst = graph.findMinimumSpanningTreeParallel();
+        assertEquals(size * size - 1, mst.size());
+        assertEquals(totalWeight(expected), totalWeight(mst), 0.0001);
+    }
+
+    @Test(timeout=SECOND)
+    public void testFindingMstLazily() {
+        Graph<String, SimpleEdge<String>> graph = this.buildSimpleGraph();
+        ISet<SimpleEdge<String>> mst = graph.findMinimumSpanningTreeLazily();
+
+        assertEquals(graph.numVertices() - 1, mst.size());
+        assertTrue(mst.contains(edge("a", "d", 1)));
+        assertTrue(mst.contains(edge("a", "b", 2)));
+        assertTrue(mst.contains(edge("b", "e", 3)));
+        assertTrue(mst.contains(edge("a", "c", 5)));
+        assertTrue(mst.contains(edge("d", "f", 6)));
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testLazyMstMatchesKruskalOnDenseGraph() {
+        Random rand = new Random(5);
+        int numVertices = 800;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        for (int v = 0; v < numVertices; v++) {
+            vertices.add(v);
+            for (int u = 0; u < v; u++) {
+                edges.add(edge(u, v, rand.nextDouble() * 100));
+            }
+        }
+        Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+
+        ISet<SimpleEdge<Integer>> expected = graph.findMinimumSpanningTree();
+        ISet<SimpleEdge<Integer>> mst = graph.findMinimumSpanningTreeLazily();
+        assertEquals(numVertices - 1, mst.size());
+        assertEquals(totalWeight(expected), totalWeight(mst), 0.0001);
+    }
 }
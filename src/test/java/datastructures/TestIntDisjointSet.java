@@ -0,0 +1,73 @@
+package datastructures;
+
+import datastructures.concrete.IntDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestIntDisjointSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testSingletons() {
+        IntDisjointSet forest = new IntDisjointSet(5);
+        assertEquals(5, forest.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, forest.findSet(i));
+        }
+        assertEquals(5, forest.makeSet());
+        assertEquals(5, forest.findSet(5));
+    }
+
+    @Test(timeout=SECOND)
+    public void testUnion() {
+        IntDisjointSet forest = new IntDisjointSet(5);
+        assertTrue(forest.union(0, 1));
+        assertTrue(forest.union(2, 3));
+        assertFalse(forest.union(1, 0));
+        assertEquals(forest.findSet(0), forest.findSet(1));
+        assertEquals(forest.findSet(2), forest.findSet(3));
+        assertTrue(forest.findSet(0) != forest.findSet(2));
+        assertEquals(4, forest.findSet(4));
+
+        assertTrue(forest.union(3, 0));
+        int id = forest.findSet(0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(id, forest.findSet(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIllegalIds() {
+        IntDisjointSet forest = new IntDisjointSet(3);
+        int[] bad = new int[] {-1, 3};
+        for (int id : bad) {
+            try {
+                forest.findSet(id);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+            try {
+                forest.union(0, id);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testLargeChainDoesNotOverflow() {
+        int numItems = 5000000;
+        IntDisjointSet forest = new IntDisjointSet(numItems);
+        for (int i = 1; i < numItems; i++) {
+            forest.union(i - 1, i);
+        }
+        int id = forest.findSet(0);
+        for (int i = 0; i < numItems; i++) {
+            assertEquals(id, forest.findSet(i));
+        }
+    }
+}
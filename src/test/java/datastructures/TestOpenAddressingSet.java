@@ -0,0 +1,83 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.OpenAddressingSet;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class TestOpenAddressingSet extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testAddContainsAndRemove() {
+        ISet<String> set = new OpenAddressingSet<>();
+        set.add("a");
+        set.add("b");
+        set.add("a");
+        assertEquals(2, set.size());
+        assertTrue(set.contains("a"));
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("c"));
+
+        set.remove("a");
+        assertEquals(1, set.size());
+        assertFalse(set.contains("a"));
+
+        try {
+            set.remove("a");
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullItem() {
+        ISet<String> set = new OpenAddressingSet<>();
+        set.add(null);
+        set.add("a");
+        assertTrue(set.contains(null));
+        assertEquals(2, set.size());
+        set.remove(null);
+        assertFalse(set.contains(null));
+        assertEquals(1, set.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyItemsAndIterator() {
+        ISet<Integer> set = new OpenAddressingSet<>();
+        int cap = 50000;
+        for (int i = 0; i < cap; i++) {
+            set.add(i * 7);
+        }
+        for (int i = 0; i < cap; i += 2) {
+            set.remove(i * 7);
+        }
+        assertEquals(cap / 2, set.size());
+
+        boolean[] seen = new boolean[cap];
+        int count = 0;
+        Iterator<Integer> iter = set.iterator();
+        while (iter.hasNext()) {
+            int item = iter.next();
+            assertEquals(0, item % 7);
+            assertEquals(1, (item / 7) % 2);
+            assertFalse(seen[item / 7]);
+            seen[item / 7] = true;
+            count++;
+        }
+        assertEquals(cap / 2, count);
+
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+}
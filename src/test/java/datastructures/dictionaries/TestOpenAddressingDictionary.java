@@ -0,0 +1,87 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.OpenAddressingDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestOpenAddressingDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new OpenAddressingDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyObjectsWithSameHashCode() {
+        IDictionary<Wrapper<String>, Integer> map = this.newDictionary();
+        for (int i = 0; i < 1000; i++) {
+            map.put(new Wrapper<>("" + i, 0), i);
+        }
+        assertEquals(1000, map.size());
+
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, map.get(new Wrapper<>("" + i, 0)));
+            assertFalse(map.containsKey(new Wrapper<>(i + "a", 0)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNegativeAndBigHashCodes() {
+        IDictionary<Wrapper<String>, String> dict = this.newDictionary();
+        int[] hashes = new int[] {-1, -100000, Integer.MIN_VALUE, Integer.MAX_VALUE, 1 << 30, 1 << 20};
+        for (int hash : hashes) {
+            dict.put(new Wrapper<>("k" + hash, hash), "v" + hash);
+        }
+        for (int hash : hashes) {
+            assertEquals("v" + hash, dict.get(new Wrapper<>("k" + hash, hash)));
+            assertFalse(dict.containsKey(new Wrapper<>("other", hash)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveInsideCollisionRun() {
+        // Keys sharing a hash code form one probe run; removing from the middle
+        // of the run must not hide the keys placed after it.
+        IDictionary<Wrapper<Integer>, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 200; i++) {
+            dict.put(new Wrapper<>(i, i % 3), i);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            assertEquals(i, dict.remove(new Wrapper<>(i, i % 3)));
+        }
+        assertEquals(100, dict.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new Wrapper<>(i, i % 3)));
+        }
+        int count = 0;
+        for (KVPair<Wrapper<Integer>, Integer> pair : dict) {
+            assertTrue(pair.getValue() % 2 == 1);
+            count++;
+        }
+        assertEquals(100, count);
+    }
+
+    @Test(timeout=10*SECOND)
+    public void stressTest() {
+        int limit = 1000000;
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+            assertEquals(i, dict.get(i));
+        }
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, -i);
+        }
+        for (int i = 0; i < limit; i++) {
+            assertEquals(-i, dict.get(i));
+            dict.remove(i);
+        }
+        assertTrue(dict.isEmpty());
+    }
+}
@@ -9,6 +9,7 @@ import misc.Sorter;
 import misc.exceptions.EmptyContainerException;
 import org.junit.Test;
 
+import java.util.Random;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -112,7 +113,52 @@ public class TestArrayHeapAndSorterStress extends BaseTest {
         }
     }
 
+    @Test(timeout = 10 * SECOND)
+    public void testSortEfficiency() {
+        // Large enough to take the parallel path.
+        Random rand = new Random(7);
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000000; i++) {
+            list.add(rand.nextInt());
+        }
 
+        IList<Integer> sorted = Sorter.sort(list);
+        assertEquals(1000000, sorted.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(sorted.get(i - 1) <= sorted.get(i));
+        }
+    }
 
+    @Test(timeout = 10 * SECOND)
+    public void testTopKEfficiencyForSmallAndLargeK() {
+        Random rand = new Random(11);
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 500000; i++) {
+            list.add(rand.nextInt(1000));
+        }
+        IList<Integer> sorted = Sorter.sort(list);
+
+        // k = 100 keeps a small heap; k = 400000 uses quickselect.
+        int[] ks = new int[] {100, 400000};
+        for (int k : ks) {
+            IList<Integer> top = Sorter.topKSort(k, list);
+            assertEquals(k, top.size());
+            for (int i = 0; i < k; i++) {
+                assertEquals(sorted.get(500000 - k + i), top.get(i));
+            }
+        }
+    }
 
+    @Test(timeout = 10 * SECOND)
+    public void testBulkBuildEfficiency() {
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000000; i++) {
+            items.add((int) (i * 7919L % 1000000));
+        }
+        ArrayHeap<Integer> heap = new ArrayHeap<>(items);
+        assertEquals(1000000, heap.size());
+        for (int i = 0; i < 1000000; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
 }
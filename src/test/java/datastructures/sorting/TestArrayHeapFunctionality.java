@@ -4,6 +4,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import misc.BaseTest;
 import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 import misc.exceptions.EmptyContainerException;
 import org.junit.Test;
@@ -162,5 +164,85 @@ public class TestArrayHeapFunctionality extends BaseTest {
         assertTrue(heap.isEmpty());
     }
 
+    @Test(timeout = SECOND)
+    public void testBulkConstructor() {
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add((i * 37) % 100);
+        }
+        ArrayHeap<Integer> heap = new ArrayHeap<>(items);
+        assertEquals(100, heap.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+        assertEquals(100, items.size());
+    }
+
+    @Test(timeout = SECOND)
+    public void testInsertAll() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        heap.insert(50);
+        heap.insert(5);
+        IList<Integer> many = new DoubleLinkedList<>();
+        for (int i = 0; i < 30; i++) {
+            many.add(30 - i);
+        }
+        heap.insertAll(many);
+        IList<Integer> few = new DoubleLinkedList<>();
+        few.add(0);
+        heap.insertAll(few);
+        assertEquals(33, heap.size());
+
+        int[] expected = new int[] {0, 1, 2, 3, 4, 5, 5};
+        for (int value : expected) {
+            assertEquals(value, heap.removeMin());
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testInsertAllWithNull() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        heap.insert(3);
+        IList<Integer> items = new DoubleLinkedList<>();
+        items.add(1);
+        items.add(null);
+        try {
+            heap.insertAll(items);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals(1, heap.size());
+        assertEquals(3, heap.peekMin());
+        try {
+            new ArrayHeap<Integer>(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
 
+    @Test(timeout = SECOND)
+    public void testInsertAllSmallBatchWithNull() {
+        // Fewer new items than queued ones takes the one-at-a-time path.
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        for (int i = 10; i < 20; i++) {
+            heap.insert(i);
+        }
+        IList<Integer> items = new DoubleLinkedList<>();
+        items.add(1);
+        items.add(2);
+        items.add(null);
+        try {
+            heap.insertAll(items);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals(10, heap.size());
+        for (int i = 10; i < 20; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
 }
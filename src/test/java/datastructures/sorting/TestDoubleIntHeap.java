@@ -0,0 +1,241 @@
+package datastructures.sorting;
+
+import datastructures.concrete.DoubleIntHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestDoubleIntHeap extends BaseTest {
+    @Test(timeout = SECOND)
+    public void testBasicInsertAndRemove() {
+        DoubleIntHeap heap = new DoubleIntHeap(10);
+        heap.insert(3, 2.5);
+        heap.insert(7, 0.5);
+        heap.insert(1, 1.5);
+        assertEquals(3, heap.size());
+        assertEquals(7, heap.peekMin());
+        assertEquals(0.5, heap.peekMinKey(), 0.0);
+        assertEquals(7, heap.removeMin());
+        assertEquals(1, heap.removeMin());
+        assertEquals(3, heap.removeMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout = SECOND)
+    public void testEmptyHeap() {
+        DoubleIntHeap heap = new DoubleIntHeap(5);
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            heap.peekMinKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testInsertInvalidValues() {
+        DoubleIntHeap heap = new DoubleIntHeap(5);
+        heap.insert(2, 1.0);
+        int[] bad = new int[] {-1, 5, 2};
+        for (int value : bad) {
+            try {
+                heap.insert(value, 0.0);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // This is ok: do nothing
+            }
+        }
+        assertEquals(1, heap.size());
+    }
+
+    @Test(timeout = SECOND)
+    public void testContainsAndReinsert() {
+        DoubleIntHeap heap = new DoubleIntHeap(5);
+        heap.insert(4, 1.0);
+        assertTrue(heap.contains(4));
+        assertFalse(heap.contains(3));
+        assertFalse(heap.contains(99));
+        heap.removeMin();
+        assertFalse(heap.contains(4));
+        heap.insert(4, 2.0);
+        assertEquals(2.0, heap.keyOf(4), 0.0);
+    }
+
+    @Test(timeout = SECOND)
+    public void testDecreaseKey() {
+        DoubleIntHeap heap = new DoubleIntHeap(100);
+        for (int i = 0; i < 100; i++) {
+            heap.insert(i, 100 + i);
+        }
+        heap.decreaseKey(64, 3.0);
+        assertEquals(64, heap.peekMin());
+        assertEquals(3.0, heap.keyOf(64), 0.0);
+        try {
+            heap.decreaseKey(10, 500);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+        heap.removeMin();
+        try {
+            heap.decreaseKey(64, 1.0);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testRemove() {
+        DoubleIntHeap heap = new DoubleIntHeap(10);
+        for (int i = 0; i < 10; i++) {
+            heap.insert(i, 10 - i);
+        }
+        heap.remove(9);
+        heap.remove(4);
+        heap.remove(0);
+        assertEquals(7, heap.size());
+        assertFalse(heap.contains(4));
+        assertEquals(8, heap.peekMin());
+        try {
+            heap.remove(4);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            heap.remove(10);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+        heap.insert(4, 0.5);
+        int[] expected = {4, 8, 7, 6, 5, 3, 2, 1};
+        for (int value : expected) {
+            assertEquals(value, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout = 10 * SECOND)
+    public void testStressRemove() {
+        int n = 100000;
+        Random rand = new Random(2);
+        double[] keys = new double[n];
+        DoubleIntHeap heap = new DoubleIntHeap(n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = rand.nextInt(1000);
+            heap.insert(i, keys[i]);
+        }
+        // Remove every third value; removing from the middle must keep the heap ordered.
+        boolean[] removed = new boolean[n];
+        for (int i = 0; i < n; i += 3) {
+            heap.remove(i);
+            removed[i] = true;
+        }
+        assertEquals(n - (n + 2) / 3, heap.size());
+        double previous = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            int value = heap.removeMin();
+            assertFalse(removed[value]);
+            assertTrue(keys[value] >= previous);
+            previous = keys[value];
+        }
+    }
+
+    @Test(timeout = 10 * SECOND)
+    public void testStressSortedOrder() {
+        int n = 1000000;
+        DoubleIntHeap heap = new DoubleIntHeap(n);
+        for (int i = 0; i < n; i++) {
+            heap.insert(i, (i * 7919L) % n);
+        }
+        for (int i = 0; i < n; i += 5) {
+            heap.decreaseKey(i, heap.keyOf(i) - n);
+        }
+        double previous = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            double key = heap.peekMinKey();
+            heap.removeMin();
+            assertTrue(key >= previous);
+            previous = key;
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testBulkBuild() {
+        double[] keys = new double[] {5.0, 3.0, 9.0, 3.0, -1.0, 7.0, 0.5};
+        DoubleIntHeap heap = new DoubleIntHeap(keys);
+        assertEquals(7, heap.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertTrue(heap.contains(i));
+            assertEquals(keys[i], heap.keyOf(i), 0.0);
+        }
+        heap.decreaseKey(2, -5.0);
+        assertEquals(2, heap.removeMin());
+        assertEquals(4, heap.removeMin());
+        assertEquals(6, heap.removeMin());
+        assertEquals(3.0, heap.peekMinKey(), 0.0);
+
+        assertTrue(new DoubleIntHeap(new double[0]).isEmpty());
+        try {
+            new DoubleIntHeap(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout = 10 * SECOND)
+    public void testStressBulkBuild() {
+        int n = 1000000;
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = (i * 7919L) % n;
+        }
+        DoubleIntHeap heap = new DoubleIntHeap(keys);
+        for (int i = 0; i < n; i++) {
+            assertEquals((double) i, heap.peekMinKey(), 0.0);
+            int value = heap.removeMin();
+            assertEquals((double) i, keys[value], 0.0);
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout = SECOND)
+    public void testGrowsFromSmallInitialSize() {
+        int capacity = 10000;
+        DoubleIntHeap heap = new DoubleIntHeap(capacity, 0);
+        for (int i = 0; i < capacity; i++) {
+            int value = (int) (i * 7919L % capacity);
+            heap.insert(value, value);
+        }
+        assertEquals(capacity, heap.size());
+        heap.decreaseKey(capacity - 1, -1.0);
+        assertEquals(capacity - 1, heap.removeMin());
+        for (int i = 0; i < capacity - 1; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+
+        try {
+            new DoubleIntHeap(10, -1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
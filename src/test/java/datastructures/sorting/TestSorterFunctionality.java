@@ -6,6 +6,8 @@ import datastructures.interfaces.IList;
 import misc.Sorter;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -116,5 +118,197 @@ public class TestSorterFunctionality extends BaseTest {
         assertEquals(33, top.get(2));
         assertEquals(100, top.get(3));
     }
-}
 
+    @Test(timeout = SECOND)
+    public void testSortDoesNotModifyInput() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add((i * 37) % 100);
+        }
+        IList<Integer> sorted = Sorter.sort(list);
+        assertEquals(100, sorted.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, sorted.get(i));
+            assertEquals((i * 37) % 100, list.get(i));
+        }
+    }
+
+    /**
+     * Compares by key only, so sorting can be checked for stability.
+     */
+    private static class Keyed implements Comparable<Keyed> {
+        private final int key;
+        private final int order;
+
+        public Keyed(int key, int order) {
+            this.key = key;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(this.key, other.key);
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testSortIsStable() {
+        IList<Keyed> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(new Keyed((i * 7) % 5, i));
+        }
+        IList<Keyed> sorted = Sorter.sort(list);
+        for (int i = 1; i < sorted.size(); i++) {
+            Keyed prev = sorted.get(i - 1);
+            Keyed curr = sorted.get(i);
+            assertTrue(prev.key < curr.key || (prev.key == curr.key && prev.order < curr.order));
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testSortWithNull() {
+        try {
+            Sorter.sort(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        IList<Integer> list = new DoubleLinkedList<>();
+        list.add(1);
+        list.add(null);
+        try {
+            Sorter.sort(list);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            Sorter.topKSort(1, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testTopKForEveryKWithDuplicates() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add((i * 31) % 17);
+        }
+        IList<Integer> sorted = Sorter.sort(list);
+        for (int k = 0; k <= 210; k++) {
+            IList<Integer> top = Sorter.topKSort(k, list);
+            int expectedSize = Math.min(k, 200);
+            assertEquals(expectedSize, top.size());
+            for (int i = 0; i < expectedSize; i++) {
+                assertEquals(sorted.get(200 - expectedSize + i), top.get(i));
+            }
+        }
+    }
+
+    /**
+     * Checks that order is a permutation of the key indices that sorts the keys,
+     * with ties in increasing index order.
+     */
+    private void assertSortsKeys(double[] keys, int[] order) {
+        assertEquals(keys.length, order.length);
+        boolean[] seen = new boolean[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            assertTrue(!seen[order[i]]);
+            seen[order[i]] = true;
+            if (i > 0) {
+                double prev = keys[order[i - 1]] + 0.0;
+                double curr = keys[order[i]] + 0.0;
+                int cmp = Double.compare(prev, curr);
+                assertTrue(cmp < 0 || (cmp == 0 && order[i - 1] < order[i]));
+            }
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testSortIndicesBySmallIntegerKeys() {
+        double[] keys = new double[] {3, 1, 2, 1, 0, 3, -2, 1};
+        int[] order = Sorter.sortIndicesByKey(keys);
+        int[] expected = new int[] {6, 4, 1, 3, 7, 2, 0, 5};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], order[i]);
+        }
+        assertEquals(0, Sorter.sortIndicesByKey(new double[0]).length);
+    }
+
+    @Test(timeout = SECOND)
+    public void testSortIndicesBySpecialKeys() {
+        double[] keys = new double[] {
+            2.5, Double.NaN, -0.0, Double.POSITIVE_INFINITY, 0.0, -1e300,
+            Double.NEGATIVE_INFINITY, 1e-300, -2.5, 0.0, Double.MIN_VALUE, 2.5
+        };
+        int[] order = Sorter.sortIndicesByKey(keys);
+        assertSortsKeys(keys, order);
+        assertEquals(6, order[0]);
+        assertEquals(1, order[keys.length - 1]);
+        assertEquals(2, order[3]);
+    }
+
+    @Test(timeout = SECOND)
+    public void testSortIndicesByHugeIntegerKeys() {
+        // Integral and close together, but far too large to convert to a long.
+        double[] keys = new double[] {1e19 + 4096, 1e19, 1e19 + 6144, 1e19 + 2048};
+        int[] order = Sorter.sortIndicesByKey(keys);
+        assertSortsKeys(keys, order);
+        int[] expected = new int[] {1, 3, 0, 2};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], order[i]);
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testSortIndicesByRandomKeys() {
+        Random rand = new Random(3);
+        double[] fractions = new double[20000];
+        double[] wideIntegers = new double[20000];
+        for (int i = 0; i < fractions.length; i++) {
+            fractions[i] = (rand.nextDouble() - 0.5) * rand.nextInt(1000);
+            wideIntegers[i] = rand.nextInt(1 << 20) - (1 << 19);
+        }
+        assertSortsKeys(fractions, Sorter.sortIndicesByKey(fractions));
+        assertSortsKeys(wideIntegers, Sorter.sortIndicesByKey(wideIntegers));
+
+        try {
+            Sorter.sortIndicesByKey((double[]) null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout = SECOND)
+    public void testSortIndicesByLongKeys() {
+        long[] keys = new long[] {5L, Long.MIN_VALUE, -1L, 1L << 40, 0L, Long.MAX_VALUE, -1L, 5L};
+        int[] order = Sorter.sortIndicesByKey(keys);
+        int[] expected = new int[] {1, 2, 6, 4, 0, 7, 3, 5};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], order[i]);
+        }
+        assertEquals(0, Sorter.sortIndicesByKey(new long[0]).length);
+
+        Random rand = new Random(4);
+        long[] randomKeys = new long[20000];
+        for (int i = 0; i < randomKeys.length; i++) {
+            randomKeys[i] = rand.nextBoolean() ? rand.nextLong() : rand.nextInt(100);
+        }
+        order = Sorter.sortIndicesByKey(randomKeys);
+        for (int i = 1; i < order.length; i++) {
+            long prev = randomKeys[order[i - 1]];
+            long curr = randomKeys[order[i]];
+            assertTrue(prev < curr || (prev == curr && order[i - 1] < order[i]));
+        }
+
+        try {
+            Sorter.sortIndicesByKey((long[]) null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package mazes.entities;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import mazes.generators.base.GridGenerator;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.awt.*;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestGridMaze extends BaseTest {
+    private static GridMaze makeGrid(int numRows, int numColumns, Rectangle box) {
+        return new GridGenerator(numRows, numColumns).generateBaseMaze(box);
+    }
+
+    private static Room linearScan(ISet<Room> rooms, Point point) {
+        Room found = null;
+        for (Room room : rooms) {
+            if (room.contains(point)) {
+                assertEquals(null, found);
+                found = room;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Asserts that getRoom agrees with a linear scan at every point of the box
+     * and of a margin around it.
+     */
+    private static void assertGetRoomMatchesLinearScan(GridMaze maze, Rectangle box) {
+        int margin = 3;
+        for (int x = box.x - margin; x < box.x + box.width + margin; x++) {
+            for (int y = box.y - margin; y < box.y + box.height + margin; y++) {
+                Point point = new Point(x, y);
+                Room expected = linearScan(maze.getRooms(), point);
+                assertEquals(expected, maze.getRoom(point));
+                boolean inBox = box.contains(point);
+                assertEquals(inBox, expected != null);
+            }
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testGetRoomMatchesLinearScan() {
+        Rectangle box = new Rectangle(3, -4, 101, 67);
+        assertGetRoomMatchesLinearScan(makeGrid(7, 9, box), box);
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testGetRoomMatchesLinearScanWithUnevenCells() {
+        // 13 rows and 17 columns do not divide the box evenly, so cells differ in size.
+        Rectangle box = new Rectangle(-20, 11, 251, 190);
+        assertGetRoomMatchesLinearScan(makeGrid(13, 17, box), box);
+    }
+
+    @Test(timeout=SECOND)
+    public void testGetRoomOnSingleCell() {
+        Rectangle box = new Rectangle(0, 0, 10, 10);
+        GridMaze maze = makeGrid(1, 1, box);
+        Room room = maze.getRoom(0, 0);
+        assertEquals(room, maze.getRoom(new Point(0, 0)));
+        assertEquals(room, maze.getRoom(new Point(9, 9)));
+        assertEquals(null, maze.getRoom(new Point(10, 5)));
+        assertEquals(null, maze.getRoom(new Point(5, 10)));
+        assertEquals(null, maze.getRoom(new Point(-1, 5)));
+        assertEquals(null, maze.getRoom(new Point(Integer.MIN_VALUE, Integer.MAX_VALUE)));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCellsAndNeighbors() {
+        GridMaze maze = makeGrid(5, 8, new Rectangle(0, 0, 80, 50));
+        assertEquals(8, maze.numColumns());
+        assertEquals(5, maze.numRows());
+        ISet<Room> seen = new ChainedHashSet<>();
+        for (int column = 0; column < maze.numColumns(); column++) {
+            for (int row = 0; row < maze.numRows(); row++) {
+                Room room = maze.getRoom(column, row);
+                assertTrue(maze.getRooms().contains(room));
+                assertEquals(room, maze.getRoom(room.getCenter()));
+                Rectangle bounds = room.getPolygon().getBounds();
+                assertEquals(new Rectangle(column * 10, row * 10, 10, 10), bounds);
+                seen.add(room);
+
+                IList<Room> neighbors = maze.getNeighbors(column, row);
+                int i = 0;
+                if (column > 0) {
+                    assertEquals(maze.getRoom(column - 1, row), neighbors.get(i));
+                    i++;
+                }
+                if (row > 0) {
+                    assertEquals(maze.getRoom(column, row - 1), neighbors.get(i));
+                    i++;
+                }
+                if (column < maze.numColumns() - 1) {
+                    assertEquals(maze.getRoom(column + 1, row), neighbors.get(i));
+                    i++;
+                }
+                if (row < maze.numRows() - 1) {
+                    assertEquals(maze.getRoom(column, row + 1), neighbors.get(i));
+                    i++;
+                }
+                assertEquals(i, neighbors.size());
+            }
+        }
+        assertEquals(maze.getRooms().size(), seen.size());
+
+        // Every wall separates two neighboring cells.
+        for (Wall wall : maze.getWalls()) {
+            Point center1 = wall.getRoom1().getCenter();
+            Point center2 = wall.getRoom2().getCenter();
+            assertEquals(10, Math.abs(center1.x - center2.x) + Math.abs(center1.y - center2.y));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCellsOutsideGridThrow() {
+        GridMaze maze = makeGrid(3, 4, new Rectangle(0, 0, 40, 30));
+        int[][] cells = {{-1, 0}, {0, -1}, {4, 0}, {0, 3}, {4, 3}};
+        for (int[] cell : cells) {
+            try {
+                maze.getRoom(cell[0], cell[1]);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                maze.getNeighbors(cell[0], cell[1]);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testWithWallsKeepsGrid() {
+        Rectangle box = new Rectangle(0, 0, 40, 30);
+        GridMaze maze = makeGrid(3, 4, box);
+        ISet<Wall> walls = new ChainedHashSet<>();
+        GridMaze open = maze.withWalls(walls);
+        assertEquals(0, open.getWalls().size());
+        assertTrue(maze.getWalls().size() > 0);
+        assertEquals(maze.getRooms(), open.getRooms());
+        assertEquals(maze.getUntouchableWalls(), open.getUntouchableWalls());
+        assertEquals(maze.numColumns(), open.numColumns());
+        assertEquals(maze.numRows(), open.numRows());
+        assertEquals(maze.getRoom(2, 1), open.getRoom(2, 1));
+        assertGetRoomMatchesLinearScan(open, box);
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyGridIsRejected() {
+        ISet<Room> rooms = new ChainedHashSet<>();
+        ISet<Wall> walls = new ChainedHashSet<>();
+        try {
+            new GridMaze(new Room[0][0], rooms, walls, walls);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new GridMaze(new Room[3][0], rooms, walls, walls);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package mazes.entities;
+
+import misc.BaseTest;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestImplicitGridMaze extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testRoomNumbering() {
+        ImplicitGridMaze maze = new ImplicitGridMaze(4, 5);
+        assertEquals(4, maze.numRows());
+        assertEquals(5, maze.numColumns());
+        assertEquals(20, maze.numRooms());
+        for (int row = 0; row < 4; row++) {
+            for (int column = 0; column < 5; column++) {
+                int room = maze.room(row, column);
+                assertEquals(row * 5 + column, room);
+                assertEquals(row, maze.rowOf(room));
+                assertEquals(column, maze.columnOf(room));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testWallNumbering() {
+        int numRows = 4;
+        int numColumns = 5;
+        ImplicitGridMaze maze = new ImplicitGridMaze(numRows, numColumns);
+        int numHorizontal = numRows * (numColumns - 1);
+        assertEquals(numHorizontal + (numRows - 1) * numColumns, maze.numWalls());
+
+        // Walls between horizontally adjacent rooms come first, row by row.
+        for (int row = 0; row < numRows; row++) {
+            for (int column = 0; column < numColumns - 1; column++) {
+                int wall = row * (numColumns - 1) + column;
+                assertEquals(maze.room(row, column), maze.wallRoom1(wall));
+                assertEquals(maze.room(row, column + 1), maze.wallRoom2(wall));
+            }
+        }
+        // Then the wall below each room that has a room below it.
+        for (int row = 0; row < numRows - 1; row++) {
+            for (int column = 0; column < numColumns; column++) {
+                int room = maze.room(row, column);
+                int wall = numHorizontal + room;
+                assertEquals(room, maze.wallRoom1(wall));
+                assertEquals(maze.room(row + 1, column), maze.wallRoom2(wall));
+                assertEquals(room, maze.otherRoom(wall, maze.room(row + 1, column)));
+                assertEquals(maze.room(row + 1, column), maze.otherRoom(wall, room));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIncidentWallsInOrder() {
+        int numRows = 4;
+        int numColumns = 5;
+        ImplicitGridMaze maze = new ImplicitGridMaze(numRows, numColumns);
+        int numHorizontal = numRows * (numColumns - 1);
+        int[] timesSeen = new int[maze.numWalls()];
+        for (int room = 0; room < maze.numRooms(); room++) {
+            int row = maze.rowOf(room);
+            int column = maze.columnOf(room);
+            int i = 0;
+            if (column > 0) {
+                assertEquals(row * (numColumns - 1) + column - 1, maze.incidentWall(room, i));
+                i++;
+            }
+            if (row > 0) {
+                assertEquals(numHorizontal + room - numColumns, maze.incidentWall(room, i));
+                i++;
+            }
+            if (column < numColumns - 1) {
+                assertEquals(row * (numColumns - 1) + column, maze.incidentWall(room, i));
+                i++;
+            }
+            if (row < numRows - 1) {
+                assertEquals(numHorizontal + room, maze.incidentWall(room, i));
+                i++;
+            }
+            assertEquals(i, maze.degree(room));
+            for (int j = 0; j < i; j++) {
+                int wall = maze.incidentWall(room, j);
+                assertTrue(maze.wallRoom1(wall) == room || maze.wallRoom2(wall) == room);
+                timesSeen[wall]++;
+            }
+            try {
+                maze.incidentWall(room, i);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        for (int count : timesSeen) {
+            assertEquals(2, count);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSingleRowAndColumn() {
+        ImplicitGridMaze row = new ImplicitGridMaze(1, 6);
+        assertEquals(5, row.numWalls());
+        for (int wall = 0; wall < 5; wall++) {
+            assertEquals(wall, row.wallRoom1(wall));
+            assertEquals(wall + 1, row.wallRoom2(wall));
+        }
+
+        ImplicitGridMaze column = new ImplicitGridMaze(6, 1);
+        assertEquals(5, column.numWalls());
+        for (int wall = 0; wall < 5; wall++) {
+            assertEquals(wall, column.wallRoom1(wall));
+            assertEquals(wall + 1, column.wallRoom2(wall));
+        }
+
+        ImplicitGridMaze single = new ImplicitGridMaze(1, 1);
+        assertEquals(1, single.numRooms());
+        assertEquals(0, single.numWalls());
+        assertEquals(0, single.degree(0));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveWall() {
+        // 10 x 10 has 180 walls, so the bits span three longs.
+        ImplicitGridMaze maze = new ImplicitGridMaze(10, 10);
+        for (int wall = 0; wall < maze.numWalls(); wall++) {
+            assertTrue(maze.hasWall(wall));
+        }
+        int[] removed = {0, 63, 64, 127, 128, maze.numWalls() - 1};
+        for (int wall : removed) {
+            maze.removeWall(wall);
+        }
+        // Removing a wall twice is harmless.
+        maze.removeWall(63);
+        int numStanding = 0;
+        for (int wall = 0; wall < maze.numWalls(); wall++) {
+            if (maze.hasWall(wall)) {
+                numStanding++;
+            }
+        }
+        assertEquals(maze.numWalls() - removed.length, numStanding);
+        for (int wall : removed) {
+            assertFalse(maze.hasWall(wall));
+        }
+        assertTrue(maze.hasWall(1));
+        assertTrue(maze.hasWall(62));
+        assertTrue(maze.hasWall(65));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCopyIsIndependent() {
+        ImplicitGridMaze maze = new ImplicitGridMaze(3, 3);
+        maze.removeWall(2);
+        ImplicitGridMaze copy = maze.copy();
+        assertEquals(maze.numRows(), copy.numRows());
+        assertEquals(maze.numColumns(), copy.numColumns());
+        assertFalse(copy.hasWall(2));
+
+        copy.removeWall(5);
+        maze.removeWall(7);
+        assertTrue(maze.hasWall(5));
+        assertFalse(copy.hasWall(5));
+        assertTrue(copy.hasWall(7));
+        assertFalse(maze.hasWall(7));
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidWallsThrow() {
+        ImplicitGridMaze maze = new ImplicitGridMaze(3, 4);
+        int[] invalid = {-1, maze.numWalls(), Integer.MAX_VALUE};
+        for (int wall : invalid) {
+            try {
+                maze.hasWall(wall);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                maze.removeWall(wall);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                maze.wallRoom1(wall);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                maze.wallRoom2(wall);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidCellsThrow() {
+        ImplicitGridMaze maze = new ImplicitGridMaze(3, 4);
+        int[][] cells = {{-1, 0}, {0, -1}, {3, 0}, {0, 4}};
+        for (int[] cell : cells) {
+            try {
+                maze.room(cell[0], cell[1]);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidSizesAreRejected() {
+        int[][] sizes = {{0, 5}, {5, 0}, {-1, 3}, {100000, 100000}, {2, Integer.MAX_VALUE}};
+        for (int[] size : sizes) {
+            try {
+                new ImplicitGridMaze(size[0], size[1]);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+}
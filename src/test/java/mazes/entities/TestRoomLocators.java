@@ -0,0 +1,182 @@
+package mazes.entities;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.DynamicArrayList;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import mazes.generators.base.GridGenerator;
+import mazes.generators.base.VoronoiGenerator;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks BucketGridRoomLocator and KdTreeRoomLocator against a linear scan
+ * over the rooms, at every polygon vertex and the points next to it, at
+ * random points, and at points outside the maze.
+ */
+public class TestRoomLocators extends BaseTest {
+    private static IList<RoomLocator> makeLocators(ISet<Room> rooms) {
+        IList<RoomLocator> locators = new DynamicArrayList<>();
+        locators.add(new BucketGridRoomLocator(rooms));
+        locators.add(new BucketGridRoomLocator(rooms, 1, 1));
+        locators.add(new BucketGridRoomLocator(rooms, 7, 3));
+        locators.add(new BucketGridRoomLocator(rooms, 200, 150));
+        locators.add(new KdTreeRoomLocator(rooms));
+        return locators;
+    }
+
+    private static boolean anyRoomContains(ISet<Room> rooms, Point point) {
+        for (Room room : rooms) {
+            if (room.contains(point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Asserts that each locator finds a room containing the point exactly when
+     * the linear scan does, and returns the number of points inside some room.
+     */
+    private static int assertMatchesLinearScan(ISet<Room> rooms, IList<Point> points) {
+        IList<RoomLocator> locators = makeLocators(rooms);
+        int numInside = 0;
+        for (Point point : points) {
+            boolean inside = anyRoomContains(rooms, point);
+            if (inside) {
+                numInside++;
+            }
+            for (RoomLocator locator : locators) {
+                Room found = locator.locate(point);
+                if (inside) {
+                    assertTrue(found != null);
+                    assertTrue(rooms.contains(found));
+                    assertTrue(found.contains(point));
+                } else {
+                    assertEquals(null, found);
+                }
+            }
+        }
+        return numInside;
+    }
+
+    /**
+     * Returns every vertex of every room with its eight surrounding points,
+     * followed by random points in the given box grown by a margin on each side.
+     */
+    private static IList<Point> makeQueryPoints(ISet<Room> rooms, Rectangle box, int numRandom, long seed) {
+        IList<Point> points = new DynamicArrayList<>();
+        for (Room room : rooms) {
+            Polygon polygon = room.getPolygon();
+            for (int i = 0; i < polygon.npoints; i++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        points.add(new Point(polygon.xpoints[i] + dx, polygon.ypoints[i] + dy));
+                    }
+                }
+            }
+        }
+        Random rand = new Random(seed);
+        int margin = 50;
+        for (int i = 0; i < numRandom; i++) {
+            points.add(new Point(
+                    box.x - margin + rand.nextInt(box.width + 2 * margin),
+                    box.y - margin + rand.nextInt(box.height + 2 * margin)));
+        }
+        return points;
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testGridRoomsMatchLinearScan() {
+        Rectangle box = new Rectangle(-13, 7, 797, 601);
+        ISet<Room> rooms = new GridGenerator(12, 15).generateBaseMaze(box).getRooms();
+        IList<Point> points = makeQueryPoints(rooms, box, 5000, 1);
+        int numInside = assertMatchesLinearScan(rooms, points);
+        assertTrue(numInside > 0);
+        assertTrue(numInside < points.size());
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testVoronoiRoomsMatchLinearScan() {
+        Rectangle box = new Rectangle(0, 0, 800, 600);
+        ISet<Room> rooms = new VoronoiGenerator(150, 10, 10, 5).generateBaseMaze(box, 7).getRooms();
+        IList<Point> points = makeQueryPoints(rooms, box, 5000, 2);
+        int numInside = assertMatchesLinearScan(rooms, points);
+        assertTrue(numInside > 0);
+        assertTrue(numInside < points.size());
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testOverlappingRoomsOfMixedSizesMatchLinearScan() {
+        Random rand = new Random(3);
+        Rectangle box = new Rectangle(0, 0, 1000, 1000);
+        ISet<Room> rooms = new ChainedHashSet<>();
+        while (rooms.size() < 200) {
+            // Mostly small rooms, with a few large ones overlapping many others.
+            int size = rand.nextInt(10) == 0 ? 100 + rand.nextInt(400) : 1 + rand.nextInt(20);
+            int x = rand.nextInt(box.width - size);
+            int y = rand.nextInt(box.height - size);
+            Polygon polygon;
+            if (rand.nextBoolean()) {
+                polygon = new Polygon(
+                        new int[] {x, x + size, x + size, x},
+                        new int[] {y, y, y + size, y + size}, 4);
+            } else {
+                polygon = new Polygon(new int[] {x, x + size, x}, new int[] {y, y + size / 2, y + size}, 3);
+            }
+            rooms.add(new Room(new Point(x + size / 3, y + size / 2), polygon));
+        }
+        IList<Point> points = makeQueryPoints(rooms, box, 5000, 4);
+        int numInside = assertMatchesLinearScan(rooms, points);
+        assertTrue(numInside > 0);
+        assertTrue(numInside < points.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testSingleRoom() {
+        ISet<Room> rooms = new ChainedHashSet<>();
+        Room room = new Room(new Point(15, 25),
+                new Polygon(new int[] {10, 20, 20, 10}, new int[] {20, 20, 30, 30}, 4));
+        rooms.add(room);
+        for (RoomLocator locator : makeLocators(rooms)) {
+            assertEquals(room, locator.locate(new Point(10, 20)));
+            assertEquals(room, locator.locate(new Point(19, 29)));
+            assertEquals(null, locator.locate(new Point(20, 25)));
+            assertEquals(null, locator.locate(new Point(15, 30)));
+            assertEquals(null, locator.locate(new Point(9, 25)));
+            assertEquals(null, locator.locate(new Point(-1000, 1000)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyRoomSet() {
+        ISet<Room> rooms = new ChainedHashSet<>();
+        for (RoomLocator locator : makeLocators(rooms)) {
+            assertEquals(null, locator.locate(new Point(0, 0)));
+            assertEquals(null, locator.locate(new Point(-5, 12)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBucketGridRejectsNonPositiveSize() {
+        ISet<Room> rooms = new ChainedHashSet<>();
+        try {
+            new BucketGridRoomLocator(rooms, 0, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new BucketGridRoomLocator(rooms, 1, -1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package mazes.generators.base;
+
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
+public class TestNearestPointGrid extends BaseTest {
+    private static double bruteForceNearest(Point[] points, int count, Point target) {
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            best = Math.min(best, points[i].distance(target));
+        }
+        return best;
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyGrid() {
+        NearestPointGrid grid = new NearestPointGrid(new Rectangle(0, 0, 10, 10), 5);
+        assertEquals(0, grid.size());
+        assertEquals(Double.MAX_VALUE, grid.distanceToNearest(new Point(3, 3)), 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testMatchesBruteForce() {
+        Random rand = new Random(5);
+        Rectangle bounds = new Rectangle(-37, 12, 501, 233);
+        int capacity = 2000;
+        NearestPointGrid grid = new NearestPointGrid(bounds, capacity);
+        Point[] points = new Point[capacity];
+        for (int i = 0; i < capacity; i++) {
+            // Every tenth point repeats an earlier one or sits on the border.
+            Point point;
+            if (i > 0 && i % 10 == 0) {
+                point = new Point(points[rand.nextInt(i)]);
+            } else if (i % 10 == 5) {
+                point = new Point(bounds.x + bounds.width - 1, bounds.y + rand.nextInt(bounds.height));
+            } else {
+                point = new Point(
+                        bounds.x + rand.nextInt(bounds.width),
+                        bounds.y + rand.nextInt(bounds.height));
+            }
+            points[i] = point;
+            grid.add(point);
+            assertEquals(i + 1, grid.size());
+
+            // Targets inside the rectangle, and some well outside it.
+            for (int j = 0; j < 5; j++) {
+                Point target = new Point(
+                        bounds.x - 100 + rand.nextInt(bounds.width + 200),
+                        bounds.y - 100 + rand.nextInt(bounds.height + 200));
+                assertEquals(bruteForceNearest(points, i + 1, target), grid.distanceToNearest(target), 0.0);
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSparseGrid() {
+        // Few points in a grid sized for many, so queries search far.
+        Rectangle bounds = new Rectangle(0, 0, 1000, 1000);
+        NearestPointGrid grid = new NearestPointGrid(bounds, 10000);
+        Point[] points = new Point[] {new Point(999, 999), new Point(0, 500)};
+        grid.add(points[0]);
+        assertEquals(bruteForceNearest(points, 1, new Point(0, 0)), grid.distanceToNearest(new Point(0, 0)), 0.0);
+        grid.add(points[1]);
+        assertEquals(bruteForceNearest(points, 2, new Point(0, 0)), grid.distanceToNearest(new Point(0, 0)), 0.0);
+        assertEquals(0.0, grid.distanceToNearest(new Point(999, 999)), 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsPointsOutsideAndOverCapacity() {
+        NearestPointGrid grid = new NearestPointGrid(new Rectangle(5, 5, 10, 10), 1);
+        Point[] outside = new Point[] {
+            new Point(4, 5), new Point(5, 4), new Point(15, 5), new Point(5, 15)
+        };
+        for (Point point : outside) {
+            try {
+                grid.add(point);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+        assertEquals(0, grid.size());
+
+        grid.add(new Point(14, 14));
+        try {
+            grid.add(new Point(5, 5));
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+
+        try {
+            new NearestPointGrid(new Rectangle(0, 0, 0, 10), 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
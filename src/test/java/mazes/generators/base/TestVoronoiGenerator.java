@@ -0,0 +1,95 @@
+package mazes.generators.base;
+
+import datastructures.concrete.OpenAddressingSet;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.ISet;
+import mazes.entities.LineSegment;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.awt.*;
+
+import static org.junit.Assert.assertTrue;
+
+public class TestVoronoiGenerator extends BaseTest {
+    private static final int MINIMUM_WALL_LENGTH = 10;
+
+    private static Maze makeMaze(long seed) {
+        return new VoronoiGenerator(300, 10, MINIMUM_WALL_LENGTH, 5)
+                .generateBaseMaze(new Rectangle(0, 0, 800, 600), seed);
+    }
+
+    private static boolean containsEitherWay(ISet<Wall> walls, Room room1, Room room2, LineSegment seg) {
+        return walls.contains(new Wall(room1, room2, seg)) || walls.contains(new Wall(room2, room1, seg));
+    }
+
+    /**
+     * Returns every wall found the way VoronoiGenerator used to find them: by
+     * hashing each polygon edge to the first room that listed it.
+     */
+    private static ISet<Wall> matchEdgesPairwise(ISet<Room> rooms) {
+        IDictionary<LineSegment, Room> firstRooms = new ChainedHashDictionary<>();
+        ISet<Wall> expected = new OpenAddressingSet<>();
+        for (Room room : rooms) {
+            Polygon polygon = room.getPolygon();
+            for (int i = 0; i < polygon.npoints; i++) {
+                int next = (i + 1) % polygon.npoints;
+                LineSegment seg = new LineSegment(
+                        new Point(polygon.xpoints[i], polygon.ypoints[i]),
+                        new Point(polygon.xpoints[next], polygon.ypoints[next]));
+                Room first = firstRooms.getOrDefault(seg, null);
+                if (first == null) {
+                    firstRooms.put(seg, room);
+                } else if (first != room) {
+                    expected.add(new Wall(room, first, seg));
+                }
+            }
+        }
+        return expected;
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testWallsMatchPairwiseEdgeMatching() {
+        Maze maze = makeMaze(42);
+        assertEquals(300, maze.getRooms().size());
+
+        ISet<Wall> expected = matchEdgesPairwise(maze.getRooms());
+        int expectedRemovable = 0;
+        for (Wall wall : expected) {
+            double length = wall.getDividingLine().length();
+            if (length > MINIMUM_WALL_LENGTH) {
+                expectedRemovable++;
+                assertTrue(containsEitherWay(maze.getWalls(), wall.getRoom1(), wall.getRoom2(),
+                        wall.getDividingLine()));
+            } else if (length > 0) {
+                // A zero-length edge (a corner repeated after rounding) can be
+                // listed by three or more rooms, and which room lists it first
+                // depends on iteration order; only count those.
+                assertTrue(containsEitherWay(maze.getUntouchableWalls(), wall.getRoom1(), wall.getRoom2(),
+                        wall.getDividingLine()));
+            }
+        }
+        assertEquals(expectedRemovable, maze.getWalls().size());
+        assertEquals(expected.size() - expectedRemovable, maze.getUntouchableWalls().size());
+        // Neighboring Voronoi cells in a 300-room maze share far more walls than rooms.
+        assertTrue(maze.getWalls().size() > 300);
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testSameSeedGivesSameMaze() {
+        Maze first = makeMaze(7);
+        Maze second = makeMaze(7);
+        assertEquals(first.getRooms().size(), second.getRooms().size());
+        for (Room room : first.getRooms()) {
+            assertTrue(second.getRooms().contains(room));
+        }
+        assertEquals(first.getWalls().size(), second.getWalls().size());
+        for (Wall wall : first.getWalls()) {
+            assertTrue(second.getWalls().contains(wall));
+        }
+    }
+}
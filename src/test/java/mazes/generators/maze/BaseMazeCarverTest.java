@@ -0,0 +1,173 @@
+package mazes.generators.maze;
+
+import datastructures.concrete.ArrayDisjointSet;
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.IntDisjointSet;
+import datastructures.interfaces.IDisjointSet;
+import datastructures.interfaces.ISet;
+import mazes.entities.ImplicitGridMaze;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.generators.base.GridGenerator;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that a carver turns every connected region of a maze into a spanning
+ * tree, on both a Maze and an ImplicitGridMaze, and that a seed fixes the result.
+ *
+ * Each carver that promises a perfect maze gets a subclass naming it.
+ */
+public abstract class BaseMazeCarverTest extends BaseTest {
+    private static final int NUM_ROWS = 30;
+    private static final int NUM_COLUMNS = 40;
+
+    protected abstract MazeCarver makeCarver();
+
+    private static Maze makeGrid() {
+        return new GridGenerator(NUM_ROWS, NUM_COLUMNS).generateBaseMaze(new Rectangle(0, 0, 800, 600));
+    }
+
+    /**
+     * Asserts that the removed walls join the rooms into 'numRegions' trees:
+     * each wall joins two rooms that were not yet connected, and there are
+     * exactly rooms - numRegions of them.
+     */
+    private static void assertSpanningForest(Maze maze, ISet<Wall> removed, int numRegions) {
+        IDisjointSet<Room> regions = new ArrayDisjointSet<>();
+        for (Room room : maze.getRooms()) {
+            regions.makeSet(room);
+        }
+        for (Wall wall : removed) {
+            assertTrue(maze.getWalls().contains(wall));
+            assertTrue(regions.findSet(wall.getRoom1()) != regions.findSet(wall.getRoom2()));
+            regions.union(wall.getRoom1(), wall.getRoom2());
+        }
+        assertEquals(maze.getRooms().size() - numRegions, removed.size());
+    }
+
+    /**
+     * Asserts that the removed walls of the grid form a single spanning tree.
+     */
+    private static void assertSpanningTree(ImplicitGridMaze maze) {
+        IntDisjointSet regions = new IntDisjointSet(maze.numRooms());
+        int removed = 0;
+        for (int wall = 0; wall < maze.numWalls(); wall++) {
+            if (!maze.hasWall(wall)) {
+                assertTrue(regions.union(maze.wallRoom1(wall), maze.wallRoom2(wall)));
+                removed++;
+            }
+        }
+        assertEquals(maze.numRooms() - 1, removed);
+    }
+
+    private static <T> boolean sameItems(ISet<T> a, ISet<T> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (T item : a) {
+            if (!b.contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testCarvesSpanningTree() {
+        Maze maze = makeGrid();
+        ISet<Wall> removed = this.makeCarver().returnWallsToRemove(maze, new SplittableRandom(1));
+        assertSpanningForest(maze, removed, 1);
+
+        Maze carved = this.makeCarver().generateMaze(maze, 1);
+        assertEquals(maze.getWalls().size() - removed.size(), carved.getWalls().size());
+        assertEquals(maze.getRooms(), carved.getRooms());
+        for (Wall wall : removed) {
+            assertFalse(carved.getWalls().contains(wall));
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testCarvesEachRegionSeparately() {
+        // Cutting every wall between the two halves of the grid leaves two
+        // regions; the middle column starts at x = 800 / 2.
+        Maze maze = makeGrid();
+        int middle = 400;
+        ISet<Wall> walls = new ChainedHashSet<>();
+        for (Wall wall : maze.getWalls()) {
+            int x1 = wall.getRoom1().getCenter().x;
+            int x2 = wall.getRoom2().getCenter().x;
+            if ((x1 < middle) == (x2 < middle)) {
+                walls.add(wall);
+            }
+        }
+        Maze split = new Maze(maze.getRooms(), walls, maze.getUntouchableWalls());
+
+        ISet<Wall> removed = this.makeCarver().returnWallsToRemove(split, new SplittableRandom(2));
+        assertSpanningForest(split, removed, 2);
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testSameSeedGivesSameWalls() {
+        Maze maze = makeGrid();
+        ISet<Wall> first = this.makeCarver().returnWallsToRemove(maze, new SplittableRandom(3));
+        ISet<Wall> second = this.makeCarver().returnWallsToRemove(maze, new SplittableRandom(3));
+        ISet<Wall> other = this.makeCarver().returnWallsToRemove(maze, new SplittableRandom(4));
+        assertTrue(sameItems(first, second));
+        assertFalse(sameItems(first, other));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCarvesTinyGrids() {
+        // A single room has nothing to carve; a single row must be fully opened.
+        Maze single = new GridGenerator(1, 1).generateBaseMaze(new Rectangle(0, 0, 10, 10));
+        assertEquals(0, this.makeCarver().returnWallsToRemove(single).size());
+
+        Maze row = new GridGenerator(1, 6).generateBaseMaze(new Rectangle(0, 0, 60, 10));
+        ISet<Wall> removed = this.makeCarver().returnWallsToRemove(row);
+        assertEquals(5, removed.size());
+        for (Wall wall : row.getWalls()) {
+            assertTrue(removed.contains(wall));
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testCarvesImplicitGrid() {
+        ImplicitGridMaze initial = new ImplicitGridMaze(NUM_ROWS, NUM_COLUMNS);
+        ImplicitGridMaze carved = this.makeCarver().generateMaze(initial, new SplittableRandom(5));
+        assertSpanningTree(carved);
+
+        // The initial maze keeps all its walls.
+        for (int wall = 0; wall < initial.numWalls(); wall++) {
+            assertTrue(initial.hasWall(wall));
+        }
+
+        ImplicitGridMaze again = this.makeCarver().generateMaze(initial, new SplittableRandom(5));
+        ImplicitGridMaze other = this.makeCarver().generateMaze(initial, new SplittableRandom(6));
+        boolean differs = false;
+        for (int wall = 0; wall < initial.numWalls(); wall++) {
+            assertEquals(carved.hasWall(wall), again.hasWall(wall));
+            differs = differs || carved.hasWall(wall) != other.hasWall(wall);
+        }
+        assertTrue(differs);
+    }
+
+    @Test(timeout=SECOND)
+    public void testCarvesTinyImplicitGrids() {
+        MazeCarver carver = this.makeCarver();
+        ImplicitGridMaze single = carver.generateMaze(new ImplicitGridMaze(1, 1), new SplittableRandom(7));
+        assertEquals(0, single.numWalls());
+
+        ImplicitGridMaze column = carver.generateMaze(new ImplicitGridMaze(6, 1), new SplittableRandom(7));
+        for (int wall = 0; wall < column.numWalls(); wall++) {
+            assertFalse(column.hasWall(wall));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package mazes.generators.maze;
+
+public class TestBacktrackerMazeCarver extends BaseMazeCarverTest {
+    @Override
+    protected MazeCarver makeCarver() {
+        return new BacktrackerMazeCarver();
+    }
+}
@@ -0,0 +1,35 @@
+package mazes.generators.maze;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.generators.base.GridGenerator;
+import org.junit.Test;
+
+import java.awt.*;
+
+public class TestKruskalMazeCarver extends BaseMazeCarverTest {
+    @Override
+    protected MazeCarver makeCarver() {
+        return new KruskalMazeCarver();
+    }
+
+    @Test(timeout=SECOND)
+    public void testLeavesWallDistancesAlone() {
+        Maze maze = new GridGenerator(10, 10).generateBaseMaze(new Rectangle(0, 0, 100, 100));
+        // A distance set by the caller must survive, not be reset to the original.
+        Wall changed = maze.getWalls().iterator().next();
+        changed.setDistance(7.5);
+        IDictionary<Wall, Double> distances = new ChainedHashDictionary<>();
+        for (Wall wall : maze.getWalls()) {
+            distances.put(wall, wall.getDistance());
+        }
+
+        this.makeCarver().returnWallsToRemove(maze);
+        for (Wall wall : maze.getWalls()) {
+            assertEquals(distances.get(wall), wall.getDistance());
+        }
+        assertEquals(7.5, changed.getDistance(), 0.0);
+    }
+}
@@ -0,0 +1,96 @@
+package mazes.generators.maze;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.interfaces.ISet;
+import mazes.entities.LineSegment;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.generators.base.GridGenerator;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.awt.*;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestMazeIndex extends BaseTest {
+    // A 7 x 9 grid of 10 x 10 cells, so room centers are at 5, 15, 25, ...
+    private static final int NUM_ROWS = 7;
+    private static final int NUM_COLUMNS = 9;
+
+    private static Maze makeGrid() {
+        return new GridGenerator(NUM_ROWS, NUM_COLUMNS).generateBaseMaze(new Rectangle(0, 0, 90, 70));
+    }
+
+    @Test(timeout=SECOND)
+    public void testNumbersEveryRoomAndWallOnce() {
+        Maze maze = makeGrid();
+        MazeIndex index = new MazeIndex(maze);
+        assertEquals(NUM_ROWS * NUM_COLUMNS, index.numRooms());
+        assertEquals(maze.getWalls().size(), index.numWalls());
+
+        ISet<Room> rooms = new ChainedHashSet<>();
+        for (int id = 0; id < index.numRooms(); id++) {
+            assertTrue(maze.getRooms().contains(index.room(id)));
+            rooms.add(index.room(id));
+        }
+        assertEquals(index.numRooms(), rooms.size());
+
+        ISet<Wall> walls = new ChainedHashSet<>();
+        for (int id = 0; id < index.numWalls(); id++) {
+            Wall wall = index.wall(id);
+            assertTrue(maze.getWalls().contains(wall));
+            walls.add(wall);
+            assertEquals(wall.getRoom1(), index.room(index.wallRoom1(id)));
+            assertEquals(wall.getRoom2(), index.room(index.wallRoom2(id)));
+        }
+        assertEquals(index.numWalls(), walls.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIncidentWallsMatchWallEnds() {
+        MazeIndex index = new MazeIndex(makeGrid());
+
+        // Every wall appears exactly once around each of its two rooms.
+        int[] seen = new int[index.numWalls()];
+        for (int room = 0; room < index.numRooms(); room++) {
+            int column = (index.room(room).getCenter().x - 5) / 10;
+            int row = (index.room(room).getCenter().y - 5) / 10;
+            int expectedDegree = (column > 0 ? 1 : 0) + (column < NUM_COLUMNS - 1 ? 1 : 0)
+                    + (row > 0 ? 1 : 0) + (row < NUM_ROWS - 1 ? 1 : 0);
+            assertEquals(expectedDegree, index.degree(room));
+            for (int i = 0; i < index.degree(room); i++) {
+                int wall = index.incidentWall(room, i);
+                seen[wall]++;
+                assertTrue(index.wallRoom1(wall) == room || index.wallRoom2(wall) == room);
+                int other = index.otherRoom(wall, room);
+                assertFalse(other == room);
+                assertEquals(room, index.otherRoom(wall, other));
+            }
+        }
+        for (int count : seen) {
+            assertEquals(2, count);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsWallToUnknownRoom() {
+        Room inside = new Room(new Point(5, 5),
+                new Polygon(new int[] {0, 10, 10, 0}, new int[] {0, 0, 10, 10}, 4));
+        Room outside = new Room(new Point(15, 5),
+                new Polygon(new int[] {10, 20, 20, 10}, new int[] {0, 0, 10, 10}, 4));
+        ISet<Room> rooms = new ChainedHashSet<>();
+        rooms.add(inside);
+        ISet<Wall> walls = new ChainedHashSet<>();
+        walls.add(new Wall(inside, outside, new LineSegment(new Point(10, 0), new Point(10, 10))));
+        try {
+            new MazeIndex(new Maze(rooms, walls, new ChainedHashSet<>()));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
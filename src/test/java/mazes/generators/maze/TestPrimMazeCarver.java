@@ -0,0 +1,8 @@
+package mazes.generators.maze;
+
+public class TestPrimMazeCarver extends BaseMazeCarverTest {
+    @Override
+    protected MazeCarver makeCarver() {
+        return new PrimMazeCarver();
+    }
+}
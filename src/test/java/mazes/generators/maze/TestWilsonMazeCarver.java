@@ -0,0 +1,8 @@
+package mazes.generators.maze;
+
+public class TestWilsonMazeCarver extends BaseMazeCarverTest {
+    @Override
+    protected MazeCarver makeCarver() {
+        return new WilsonMazeCarver();
+    }
+}
@@ -0,0 +1,182 @@
+package mazes.solvers;
+
+import mazes.entities.ImplicitGridMaze;
+import mazes.generators.maze.PrimMazeCarver;
+import misc.BaseTest;
+import misc.exceptions.NoPathExistsException;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class TestBreadthFirstMazeSolver extends BaseTest {
+    private static BreadthFirstMazeSolver makeSolver(ImplicitGridMaze maze) {
+        return new BreadthFirstMazeSolver(maze, wall -> !maze.hasWall(wall));
+    }
+
+    private static ImplicitGridMaze openGrid(int numRows, int numColumns) {
+        ImplicitGridMaze maze = new ImplicitGridMaze(numRows, numColumns);
+        for (int wall = 0; wall < maze.numWalls(); wall++) {
+            maze.removeWall(wall);
+        }
+        return maze;
+    }
+
+    /**
+     * Asserts that the path leads from start to end through removed walls
+     * without visiting any room twice.
+     */
+    private static void assertValidPath(ImplicitGridMaze maze, int start, int end, int[] path) {
+        boolean[] visited = new boolean[maze.numRooms()];
+        int room = start;
+        visited[room] = true;
+        for (int wall : path) {
+            assertFalse(maze.hasWall(wall));
+            int room1 = maze.wallRoom1(wall);
+            int room2 = maze.wallRoom2(wall);
+            if (room1 != room && room2 != room) {
+                fail("Path is not continuous at wall " + wall);
+            }
+            room = maze.otherRoom(wall, room);
+            assertFalse(visited[room]);
+            visited[room] = true;
+        }
+        assertEquals(end, room);
+    }
+
+    /**
+     * Returns the number of walls on a shortest path from start to every room,
+     * or Integer.MAX_VALUE for unreachable rooms, by relaxing every open wall
+     * until nothing changes.
+     */
+    private static int[] distancesFrom(ImplicitGridMaze maze, int start) {
+        int[] distances = new int[maze.numRooms()];
+        for (int room = 0; room < distances.length; room++) {
+            distances[room] = Integer.MAX_VALUE;
+        }
+        distances[start] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int wall = 0; wall < maze.numWalls(); wall++) {
+                if (maze.hasWall(wall)) {
+                    continue;
+                }
+                int room1 = maze.wallRoom1(wall);
+                int room2 = maze.wallRoom2(wall);
+                if (distances[room1] != Integer.MAX_VALUE && distances[room1] + 1 < distances[room2]) {
+                    distances[room2] = distances[room1] + 1;
+                    changed = true;
+                }
+                if (distances[room2] != Integer.MAX_VALUE && distances[room2] + 1 < distances[room1]) {
+                    distances[room1] = distances[room2] + 1;
+                    changed = true;
+                }
+            }
+        }
+        return distances;
+    }
+
+    @Test(timeout=SECOND)
+    public void testOpenGridPathsAreManhattanDistance() {
+        ImplicitGridMaze maze = openGrid(7, 9);
+        BreadthFirstMazeSolver solver = makeSolver(maze);
+        int[][] pairs = {{0, 62}, {62, 0}, {8, 54}, {30, 31}, {4, 58}, {13, 13}};
+        for (int[] pair : pairs) {
+            int start = pair[0];
+            int end = pair[1];
+            int[] path = solver.findShortestPath(start, end);
+            assertValidPath(maze, start, end, path);
+            int expected = Math.abs(maze.rowOf(start) - maze.rowOf(end))
+                    + Math.abs(maze.columnOf(start) - maze.columnOf(end));
+            assertEquals(expected, path.length);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testStartEqualsEnd() {
+        ImplicitGridMaze maze = new ImplicitGridMaze(3, 3);
+        assertEquals(0, makeSolver(maze).findShortestPath(4, 4).length);
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testCarvedMaze() {
+        ImplicitGridMaze maze = new PrimMazeCarver().generateMaze(
+                new ImplicitGridMaze(30, 40), new SplittableRandom(3));
+        BreadthFirstMazeSolver solver = makeSolver(maze);
+        int start = 0;
+        int[] distances = distancesFrom(maze, start);
+        for (int end = 0; end < maze.numRooms(); end += 37) {
+            int[] path = solver.findShortestPath(start, end);
+            assertValidPath(maze, start, end, path);
+            assertEquals(distances[end], path.length);
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testMazeWithCyclesGivesShortestPaths() {
+        // Knock down a random half of the walls: many rooms are reachable
+        // along several paths of different lengths, and some not at all.
+        ImplicitGridMaze maze = new ImplicitGridMaze(20, 25);
+        SplittableRandom rand = new SplittableRandom(11);
+        for (int wall = 0; wall < maze.numWalls(); wall++) {
+            if (rand.nextBoolean()) {
+                maze.removeWall(wall);
+            }
+        }
+        BreadthFirstMazeSolver solver = makeSolver(maze);
+        int start = maze.room(10, 12);
+        int[] distances = distancesFrom(maze, start);
+        int numReachable = 0;
+        for (int end = 0; end < maze.numRooms(); end++) {
+            if (distances[end] == Integer.MAX_VALUE) {
+                try {
+                    solver.findShortestPath(start, end);
+                    fail("Expected NoPathExistsException");
+                } catch (NoPathExistsException ex) {
+                    // All ok -- expected result
+                }
+            } else {
+                int[] path = solver.findShortestPath(start, end);
+                assertValidPath(maze, start, end, path);
+                assertEquals(distances[end], path.length);
+                numReachable++;
+            }
+        }
+        assertFalse(numReachable == 0 || numReachable == maze.numRooms());
+    }
+
+    @Test(timeout=SECOND)
+    public void testWalledOffRoomHasNoPath() {
+        ImplicitGridMaze maze = new ImplicitGridMaze(5, 5);
+        int end = maze.room(2, 2);
+        for (int wall = 0; wall < maze.numWalls(); wall++) {
+            if (maze.wallRoom1(wall) != end && maze.wallRoom2(wall) != end) {
+                maze.removeWall(wall);
+            }
+        }
+        try {
+            makeSolver(maze).findShortestPath(0, end);
+            fail("Expected NoPathExistsException");
+        } catch (NoPathExistsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidRoomsThrow() {
+        ImplicitGridMaze maze = openGrid(3, 3);
+        BreadthFirstMazeSolver solver = makeSolver(maze);
+        int[][] pairs = {{-1, 0}, {0, -1}, {9, 0}, {0, 9}};
+        for (int[] pair : pairs) {
+            try {
+                solver.findShortestPath(pair[0], pair[1]);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+}